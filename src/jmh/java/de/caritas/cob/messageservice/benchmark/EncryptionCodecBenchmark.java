@@ -0,0 +1,91 @@
+package de.caritas.cob.messageservice.benchmark;
+
+import static de.caritas.cob.messageservice.benchmark.MessageCorpus.RC_GROUP_ID;
+
+import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
+import de.caritas.cob.messageservice.api.service.EncryptionService;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Compares the allocation-lean encrypted message codec of the {@link EncryptionService} with the
+ * former String based implementation (Base64 of the JDK, flag concatenation and substring). Both
+ * variants use a cached key and a reused cipher, so only the codec differs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class EncryptionCodecBenchmark {
+
+  private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
+
+  @Param({"10", "100", "1024", "16384", "65536"})
+  private int messageSize;
+
+  private EncryptionService encryptionService;
+  private Cipher legacyCipher;
+  private SecretKeySpec legacyKeySpec;
+  private String plainMessage;
+  private String encryptedMessage;
+
+  @Setup
+  public void setup() throws GeneralSecurityException, CustomCryptoException {
+    encryptionService = new EncryptionService();
+    ReflectionTestUtils.setField(encryptionService, "fragment_applicationKey", "appKey");
+    encryptionService.updateMasterKey("masterKey");
+
+    var keyBytes = MessageDigest.getInstance("SHA-1")
+        .digest(("masterKey" + RC_GROUP_ID + "appKey").getBytes(StandardCharsets.UTF_8));
+    legacyKeySpec = new SecretKeySpec(Arrays.copyOf(keyBytes, 16), "AES");
+    legacyCipher = Cipher.getInstance("AES/ECB/PKCS5PADDING");
+
+    plainMessage = MessageCorpus.textOfSize(messageSize);
+    encryptedMessage = encryptionService.encrypt(plainMessage, RC_GROUP_ID);
+  }
+
+  @Benchmark
+  public String encrypt() throws CustomCryptoException {
+    return encryptionService.encrypt(plainMessage, RC_GROUP_ID);
+  }
+
+  @Benchmark
+  public String encryptLegacy() throws GeneralSecurityException {
+    legacyCipher.init(Cipher.ENCRYPT_MODE, legacyKeySpec);
+    return ENCRYPTED_MESSAGE_FLAG + Base64.getEncoder()
+        .encodeToString(legacyCipher.doFinal(plainMessage.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Benchmark
+  public String decrypt() throws CustomCryptoException {
+    return encryptionService.decrypt(encryptedMessage, RC_GROUP_ID);
+  }
+
+  @Benchmark
+  public String decryptLegacy() throws GeneralSecurityException {
+    var encoded = encryptedMessage.substring(ENCRYPTED_MESSAGE_FLAG.length());
+    legacyCipher.init(Cipher.DECRYPT_MODE, legacyKeySpec);
+    return new String(legacyCipher.doFinal(Base64.getDecoder().decode(encoded)),
+        StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,194 @@
+package de.caritas.cob.messageservice.benchmark;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.codec.binary.Base32;
+
+/**
+ * Deterministic payloads resembling the messages exchanged in counselling sessions, so that
+ * benchmark results are comparable across commits. All random choices use a fixed seed.
+ */
+final class MessageCorpus {
+
+  static final int PAGE_SIZE = 100;
+  static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+
+  private static final long SEED = 4711L;
+  private static final String MESSAGE_TEXT =
+      "Hallo, vielen Dank für Ihre Nachricht. Ich würde gerne nächste Woche einen Termin mit "
+          + "Ihnen vereinbaren, um über Ihre Situation zu sprechen. Schöne Grüße! ";
+  private static final String[] USERNAMES = {"beratung.müller", "ratsuchende_2022", "Jürgen K.",
+      "consultant-team-süd", "anonym1234", "kim"};
+  private static final String[] HTML_FRAGMENTS = {"<b>wichtig</b>",
+      "<a href=\"https://x\">Link</a>", "a < b && c > d", "\"Zitat\"",
+      "<script>alert('x')</script>"};
+
+  private MessageCorpus() {
+  }
+
+  /**
+   * Returns a text with the given size in UTF-8 bytes, with umlauts as in real messages.
+   *
+   * @param size the size in bytes
+   * @return the text
+   */
+  static String textOfSize(int size) {
+    var text = new StringBuilder(size);
+    var byteCount = 0;
+    var position = 0;
+    while (true) {
+      var character = MESSAGE_TEXT.charAt(position++ % MESSAGE_TEXT.length());
+      var characterSize = String.valueOf(character).getBytes(StandardCharsets.UTF_8).length;
+      if (byteCount + characterSize > size) {
+        return text.toString();
+      }
+      text.append(character);
+      byteCount += characterSize;
+    }
+  }
+
+  /**
+   * Returns message texts with a size distribution typical for chats: mostly short answers, some
+   * paragraphs and a few long letters.
+   *
+   * @param count the number of texts
+   * @return the texts
+   */
+  static List<String> messageTexts(int count) {
+    var random = new Random(SEED);
+    var texts = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      texts.add(textOfSize(messageSize(random)));
+    }
+    return texts;
+  }
+
+  /**
+   * Returns message texts of which every fourth contains html markup or special characters.
+   *
+   * @param count the number of texts
+   * @return the texts
+   */
+  static List<String> textsWithMarkup(int count) {
+    var random = new Random(SEED);
+    var texts = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      var text = textOfSize(messageSize(random));
+      if (i % 4 == 0) {
+        var insertAt = random.nextInt(text.length() + 1);
+        text = text.substring(0, insertAt) + HTML_FRAGMENTS[random.nextInt(HTML_FRAGMENTS.length)]
+            + text.substring(insertAt);
+      }
+      texts.add(text);
+    }
+    return texts;
+  }
+
+  /**
+   * Returns Rocket.Chat usernames, half of them base32 encoded by the user service.
+   *
+   * @param count the number of usernames
+   * @return the usernames
+   */
+  static List<String> usernames(int count) {
+    var usernames = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      var username = USERNAMES[i % USERNAMES.length] + i;
+      usernames.add(i % 2 == 0 ? encodeUsername(username) : username);
+    }
+    return usernames;
+  }
+
+  /**
+   * Returns the url encoded alias values as stored by Rocket.Chat: legacy forward messages, forward
+   * and video call aliases and aliases only carrying a message type.
+   *
+   * @param count the number of aliases
+   * @return the aliases
+   */
+  static List<String> aliases(int count) {
+    var aliases = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      aliases.add(urlEncode(aliasJson(i)));
+    }
+    return aliases;
+  }
+
+  /**
+   * Returns a page of Rocket.Chat messages as returned by groups.messages, serialized as json
+   * objects. Every third message carries an alias.
+   *
+   * @param count the number of messages
+   * @return the messages as json
+   */
+  static List<String> rocketChatMessages(int count) {
+    var random = new Random(SEED);
+    var messages = new ArrayList<String>(count);
+    for (var i = 0; i < count; i++) {
+      var alias = i % 3 == 0 ? ",\"alias\":\"" + urlEncode(aliasJson(i)) + "\"" : "";
+      var text = textOfSize(messageSize(random)).replace("\"", "\\\"");
+      var timestamp = String.format("2022-10-%02dT09:%02d:00.057Z", 1 + i % 28, i % 60);
+      messages.add("{\"_id\":\"M73fE4WhYF4peY" + i + "\",\"rid\":\"" + RC_GROUP_ID + "\""
+          + ",\"msg\":\"" + text + "\"" + alias
+          + ",\"ts\":\"" + timestamp + "\",\"u\":{\"_id\":\"xN7vK2mQp" + i % 2
+          + "\",\"username\":\"" + encodeUsername(USERNAMES[i % 2]) + "\",\"name\":\"\"}"
+          + ",\"_updatedAt\":\"" + timestamp + "\",\"unread\":" + (i % 5 == 0)
+          + ",\"mentions\":[],\"channels\":[],\"urls\":[],\"md\":[{\"type\":\"PARAGRAPH\"}]"
+          + (i % 10 == 0 ? fileJson(i) : "") + "}");
+    }
+    return messages;
+  }
+
+  private static String aliasJson(int index) {
+    var username = encodeUsername(USERNAMES[index % USERNAMES.length]);
+    switch (index % 4) {
+      case 0:
+        return "{\"message\":\"" + textOfSize(200) + "\",\"timestamp\":\"2022-10-18T09:33:00Z\""
+            + ",\"username\":\"" + username + "\",\"rcUserId\":\"xN7vK2mQp" + index + "\"}";
+      case 1:
+        return "{\"forwardMessageDTO\":{\"message\":\"" + textOfSize(200) + "\""
+            + ",\"timestamp\":\"2022-10-18T09:33:00Z\",\"username\":\"" + username + "\""
+            + ",\"rcUserId\":\"xN7vK2mQp" + index + "\"},\"videoCallMessageDTO\":null"
+            + ",\"messageType\":\"FORWARD\",\"content\":null}";
+      case 2:
+        return "{\"forwardMessageDTO\":null"
+            + ",\"videoCallMessageDTO\":{\"eventType\":\"IGNORED_CALL\""
+            + ",\"initiatorUserName\":\"" + username + "\",\"initiatorRcUserId\":\"xN7vK2mQp"
+            + index + "\"},\"messageType\":\"VIDEOCALL\",\"content\":null}";
+      default:
+        return "{\"forwardMessageDTO\":null,\"videoCallMessageDTO\":null"
+            + ",\"messageType\":\"APPOINTMENT_SET\",\"content\":\"{\\\"id\\\":\\\"" + index
+            + "\\\",\\\"datetime\\\":\\\"2022-10-20T10:00:00Z\\\"}\"}";
+    }
+  }
+
+  private static String fileJson(int index) {
+    return ",\"file\":{\"_id\":\"f" + index + "\",\"name\":\"Antrag.pdf\""
+        + ",\"type\":\"application/pdf\"},\"attachments\":[{\"title\":\"Antrag.pdf\""
+        + ",\"type\":\"file\",\"description\":null,\"title_link\":\"/file-upload/f" + index
+        + "/Antrag.pdf\",\"title_link_download\":true}]";
+  }
+
+  private static int messageSize(Random random) {
+    var bucket = random.nextInt(100);
+    if (bucket < 60) {
+      return 20 + random.nextInt(180);
+    }
+    if (bucket < 95) {
+      return 200 + random.nextInt(800);
+    }
+    return 1000 + random.nextInt(4000);
+  }
+
+  private static String encodeUsername(String username) {
+    return "enc." + new Base32().encodeAsString(username.getBytes(StandardCharsets.UTF_8))
+        .replace("=", ".").toLowerCase();
+  }
+
+  private static String urlEncode(String value) {
+    return URLEncoder.encode(value, StandardCharsets.UTF_8);
+  }
+}
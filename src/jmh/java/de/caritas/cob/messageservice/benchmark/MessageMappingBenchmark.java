@@ -0,0 +1,112 @@
+package de.caritas.cob.messageservice.benchmark;
+
+import static de.caritas.cob.messageservice.benchmark.MessageCorpus.PAGE_SIZE;
+import static de.caritas.cob.messageservice.benchmark.MessageCorpus.RC_GROUP_ID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
+import de.caritas.cob.messageservice.api.helper.JSONHelper;
+import de.caritas.cob.messageservice.api.helper.UserHelper;
+import de.caritas.cob.messageservice.api.model.AliasMessageDTO;
+import de.caritas.cob.messageservice.api.model.jsondeserializer.AliasJsonDeserializer;
+import de.caritas.cob.messageservice.api.service.EncryptionService;
+import de.caritas.cob.messageservice.api.service.MessageMapper;
+import de.caritas.cob.messageservice.api.service.dto.Message;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Benchmarks the steps applied to every message of a Rocket.Chat message page. Each invocation
+ * processes a whole page of the {@link MessageCorpus}, results are reported per message.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class MessageMappingBenchmark {
+
+  private EncryptionService encryptionService;
+  private MessageMapper messageMapper;
+  private AliasJsonDeserializer aliasJsonDeserializer;
+  private List<String> encryptedTexts;
+  private List<Message> messages;
+  private List<String> aliases;
+  private List<AliasMessageDTO> aliasMessageDTOs;
+
+  @Setup
+  public void setup() throws CustomCryptoException, JsonProcessingException {
+    encryptionService = new EncryptionService();
+    ReflectionTestUtils.setField(encryptionService, "fragment_applicationKey", "appKey");
+    encryptionService.updateMasterKey("masterKey");
+
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    messageMapper = new MessageMapper(objectMapper, encryptionService);
+    aliasJsonDeserializer = new AliasJsonDeserializer(new UserHelper());
+
+    encryptedTexts = new ArrayList<>(PAGE_SIZE);
+    for (var text : MessageCorpus.messageTexts(PAGE_SIZE)) {
+      encryptedTexts.add(encryptionService.encrypt(text, RC_GROUP_ID));
+    }
+
+    messages = new ArrayList<>(PAGE_SIZE);
+    for (var json : MessageCorpus.rocketChatMessages(PAGE_SIZE)) {
+      messages.add(objectMapper.readValue(json, Message.class));
+    }
+
+    aliases = MessageCorpus.aliases(PAGE_SIZE);
+    aliasMessageDTOs = new ArrayList<>(PAGE_SIZE);
+    for (var alias : aliases) {
+      aliasMessageDTOs.add(aliasJsonDeserializer.getAliasMessageDTO(alias));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void decrypt(Blackhole blackhole) throws CustomCryptoException {
+    for (var encryptedText : encryptedTexts) {
+      blackhole.consume(encryptionService.decrypt(encryptedText, RC_GROUP_ID));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void messageDtoOf(Blackhole blackhole) {
+    for (var message : messages) {
+      blackhole.consume(messageMapper.messageDtoOf(message));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void getAliasMessageDTO(Blackhole blackhole) {
+    for (var alias : aliases) {
+      blackhole.consume(aliasJsonDeserializer.getAliasMessageDTO(alias));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void convertAliasMessageDTOToString(Blackhole blackhole) {
+    for (var aliasMessageDTO : aliasMessageDTOs) {
+      blackhole.consume(JSONHelper.convertAliasMessageDTOToString(aliasMessageDTO));
+    }
+  }
+}
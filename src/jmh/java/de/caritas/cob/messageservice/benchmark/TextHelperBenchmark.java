@@ -0,0 +1,60 @@
+package de.caritas.cob.messageservice.benchmark;
+
+import static de.caritas.cob.messageservice.benchmark.MessageCorpus.PAGE_SIZE;
+
+import de.caritas.cob.messageservice.api.helper.UserHelper;
+import de.caritas.cob.messageservice.api.helper.XssProtection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the text helpers applied to incoming messages and usernames. Each invocation
+ * processes a whole page of the {@link MessageCorpus}, results are reported per text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class TextHelperBenchmark {
+
+  private UserHelper userHelper;
+  private List<String> texts;
+  private List<String> usernames;
+
+  @Setup
+  public void setup() {
+    userHelper = new UserHelper();
+    texts = MessageCorpus.textsWithMarkup(PAGE_SIZE);
+    usernames = MessageCorpus.usernames(PAGE_SIZE);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void escapeHtml(Blackhole blackhole) {
+    for (var text : texts) {
+      blackhole.consume(XssProtection.escapeHtml(text));
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(PAGE_SIZE)
+  public void decodeUsername(Blackhole blackhole) {
+    for (var username : usernames) {
+      blackhole.consume(userHelper.decodeUsername(username));
+    }
+  }
+}
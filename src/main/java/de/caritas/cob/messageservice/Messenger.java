@@ -1,6 +1,8 @@
 package de.caritas.cob.messageservice;
 
+import static de.caritas.cob.messageservice.api.model.MessageType.FINISHED_CONVERSATION;
 import static de.caritas.cob.messageservice.api.model.MessageType.MASTER_KEY_LOST;
+import static de.caritas.cob.messageservice.api.model.MessageType.UPDATE_SESSION_DATA;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
@@ -8,7 +10,6 @@ import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import de.caritas.cob.messageservice.api.exception.BadRequestException;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.exception.InternalServerErrorException;
-import de.caritas.cob.messageservice.api.exception.RocketChatPostMarkGroupAsReadException;
 import de.caritas.cob.messageservice.api.exception.RocketChatSendMessageException;
 import de.caritas.cob.messageservice.api.facade.EmailNotificationFacade;
 import de.caritas.cob.messageservice.api.helper.AuthenticatedUser;
@@ -23,8 +24,9 @@ import de.caritas.cob.messageservice.api.model.VideoCallMessageDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.group.GetGroupInfoDto;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResponseDTO;
 import de.caritas.cob.messageservice.api.service.DraftMessageService;
-import de.caritas.cob.messageservice.api.service.LiveEventNotificationService;
+import de.caritas.cob.messageservice.api.service.LiveEventDispatcher;
 import de.caritas.cob.messageservice.api.service.LogService;
+import de.caritas.cob.messageservice.api.service.MarkAsReadService;
 import de.caritas.cob.messageservice.api.service.MessageMapper;
 import de.caritas.cob.messageservice.api.service.RocketChatService;
 import de.caritas.cob.messageservice.api.service.SessionService;
@@ -33,7 +35,6 @@ import de.caritas.cob.messageservice.api.service.statistics.StatisticsService;
 import de.caritas.cob.messageservice.api.service.statistics.event.CreateMessageStatisticsEvent;
 import de.caritas.cob.messageservice.api.tenant.TenantContext;
 import de.caritas.cob.messageservice.statisticsservice.generated.web.model.UserRole;
-import de.caritas.cob.messageservice.userservice.generated.web.model.SessionUserDTO;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -52,8 +53,9 @@ public class Messenger {
   private static final String FEEDBACK_GROUP_IDENTIFIER = "feedback";
 
   private final @NonNull RocketChatService rocketChatService;
+  private final @NonNull MarkAsReadService markAsReadService;
   private final @NonNull EmailNotificationFacade emailNotificationFacade;
-  private final @NonNull LiveEventNotificationService liveEventNotificationService;
+  private final @NonNull LiveEventDispatcher liveEventDispatcher;
   private final @NonNull DraftMessageService draftMessageService;
   private final @NonNull StatisticsService statisticsService;
   private final @NonNull AuthenticatedUser authenticatedUser;
@@ -96,7 +98,7 @@ public class Messenger {
     draftMessageService.deleteDraftMessageIfExist(chatMessage.getRcGroupId());
 
     if (!this.rocketChatSystemUserId.equals(chatMessage.getRcUserId())) {
-      liveEventNotificationService.sendLiveEvent(
+      liveEventDispatcher.dispatchLiveEvent(
           chatMessage.getRcGroupId(),
           authenticatedUser.getAccessToken(),
           TenantContext.getCurrentTenantOption()
@@ -115,23 +117,12 @@ public class Messenger {
 
   private String resolveAdviceseekerUserId(ChatMessage chatMessage) {
     if (authenticatedUser.isConsultant()) {
-      de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionListResponseDTO sessionBelongingToRcGroupId = sessionService.findSessionBelongingToRcGroupId(
-          chatMessage.getRcToken(), chatMessage.getRcGroupId());
-      if (sessionBelongingToRcGroupId != null
-          && sessionBelongingToRcGroupId.getSessions() != null) {
-        var optionalSession = sessionBelongingToRcGroupId.getSessions().stream().findFirst();
-        return optionalSession.isPresent() ? getUserId(optionalSession.get()) : null;
-      }
+      return sessionService.findAdviceseekerUserId(chatMessage.getRcToken(),
+          chatMessage.getRcGroupId());
     }
     return null;
   }
 
-  private String getUserId(
-      de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionResponseDTO session) {
-    SessionUserDTO user = session.getUser();
-    return user != null ? user.getId() : null;
-  }
-
   private UserRole resolveUserRole(AuthenticatedUser authenticatedUser) {
     return (AuthenticatedUserHelper.isConsultant(authenticatedUser)) ? UserRole.CONSULTANT
         : UserRole.ASKER;
@@ -141,7 +132,7 @@ public class Messenger {
     draftMessageService.deleteDraftMessageIfExist(feedbackGroupMessage.getRcGroupId());
 
     if (!this.rocketChatSystemUserId.equals(feedbackGroupMessage.getRcUserId())) {
-      liveEventNotificationService.sendLiveEvent(
+      liveEventDispatcher.dispatchLiveEvent(
           feedbackGroupMessage.getRcGroupId(),
           authenticatedUser.getAccessToken(),
           TenantContext.getCurrentTenantOption()
@@ -169,11 +160,9 @@ public class Messenger {
         throw new InternalServerErrorException();
       }
       // Set all messages as read for system message user
-      rocketChatService.markGroupAsReadForSystemUser(groupMessage.getRcGroupId());
+      markAsReadService.markGroupAsReadForSystemUser(groupMessage.getRcGroupId());
       return mapper.messageResponseOf(response);
-    } catch (RocketChatSendMessageException
-        | RocketChatPostMarkGroupAsReadException
-        | CustomCryptoException ex) {
+    } catch (RocketChatSendMessageException | CustomCryptoException ex) {
       throw new InternalServerErrorException(ex, LogService::logInternalServerError);
     }
   }
@@ -215,6 +204,10 @@ public class Messenger {
    */
   public MessageResponseDTO createEvent(String rcGroupId, MessageType messageType,
       AliasArgs aliasArgs) {
+    if (UPDATE_SESSION_DATA.equals(messageType) || FINISHED_CONVERSATION.equals(messageType)) {
+      sessionService.evictAdviceseekerUserId(rcGroupId);
+    }
+
     var aliasMessage = mapper.aliasMessageDtoOf(messageType);
     var messageString = mapper.messageStringOf(aliasArgs);
 
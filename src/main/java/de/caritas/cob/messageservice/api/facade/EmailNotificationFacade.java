@@ -1,18 +1,21 @@
 package de.caritas.cob.messageservice.api.facade;
 
+import static de.caritas.cob.messageservice.config.AsyncConfig.EMAIL_NOTIFICATION_EXECUTOR;
+
 import de.caritas.cob.messageservice.api.model.AliasArgs;
 import de.caritas.cob.messageservice.api.model.ConsultantReassignment;
 import de.caritas.cob.messageservice.api.model.ReassignStatus;
 import de.caritas.cob.messageservice.api.service.helper.ServiceHelper;
 import de.caritas.cob.messageservice.api.tenant.TenantContext;
 import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
-import de.caritas.cob.messageservice.userservice.generated.ApiClient;
+import de.caritas.cob.messageservice.config.apiclient.ApiRequestHeaders;
 import de.caritas.cob.messageservice.userservice.generated.web.model.NewMessageNotificationDTO;
 import de.caritas.cob.messageservice.userservice.generated.web.model.ReassignmentNotificationDTO;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -36,22 +39,21 @@ public class EmailNotificationFacade {
    *
    * @param rcGroupId - Rocket.Chat group id
    */
-  @Async
+  @Async(EMAIL_NOTIFICATION_EXECUTOR)
   public void sendEmailAboutNewChatMessage(String rcGroupId, Optional<Long> tenantId,
       String accessToken) {
     if (multitenancy) {
       TenantContext.setCurrentTenant(tenantId.orElseThrow());
     }
 
+    var notification = new NewMessageNotificationDTO().rcGroupId(rcGroupId);
     var userControllerApi = clientFactory.userControllerApi();
-    addDefaultHeaders(userControllerApi.getApiClient(), accessToken, tenantId);
-    userControllerApi
-        .sendNewMessageNotification(new NewMessageNotificationDTO().rcGroupId(rcGroupId));
+    ApiRequestHeaders.runWith(headersOf(accessToken, tenantId),
+        () -> userControllerApi.sendNewMessageNotification(notification));
   }
 
-  private void addDefaultHeaders(ApiClient apiClient, String accessToken, Optional<Long> tenantId) {
-    var headers = serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(accessToken, tenantId);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+  private HttpHeaders headersOf(String accessToken, Optional<Long> tenantId) {
+    return serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(accessToken, tenantId);
   }
 
   /**
@@ -60,17 +62,17 @@ public class EmailNotificationFacade {
    *
    * @param rcGroupId - Rocket.Chat group id
    */
-  @Async
+  @Async(EMAIL_NOTIFICATION_EXECUTOR)
   public void sendEmailAboutNewFeedbackMessage(String rcGroupId, Optional<Long> tenantId,
       String accessToken) {
 
+    var notification = new NewMessageNotificationDTO().rcGroupId(rcGroupId);
     var userControllerApi = clientFactory.userControllerApi();
-    addDefaultHeaders(userControllerApi.getApiClient(), accessToken, tenantId);
-    userControllerApi
-        .sendNewFeedbackMessageNotification(new NewMessageNotificationDTO().rcGroupId(rcGroupId));
+    ApiRequestHeaders.runWith(headersOf(accessToken, tenantId),
+        () -> userControllerApi.sendNewFeedbackMessageNotification(notification));
   }
 
-  @Async
+  @Async(EMAIL_NOTIFICATION_EXECUTOR)
   public void sendEmailAboutReassignRequest(String rcGroupId, AliasArgs aliasArgs,
       Optional<Long> tenantId, String accessToken) {
     var reassignmentNotification = new ReassignmentNotificationDTO()
@@ -79,11 +81,11 @@ public class EmailNotificationFacade {
         .fromConsultantName(aliasArgs.getFromConsultantName());
 
     var userControllerApi = clientFactory.userControllerApi();
-    addDefaultHeaders(userControllerApi.getApiClient(), accessToken, tenantId);
-    userControllerApi.sendReassignmentNotification(reassignmentNotification);
+    ApiRequestHeaders.runWith(headersOf(accessToken, tenantId),
+        () -> userControllerApi.sendReassignmentNotification(reassignmentNotification));
   }
 
-  @Async
+  @Async(EMAIL_NOTIFICATION_EXECUTOR)
   public void sendEmailAboutReassignDecision(String roomId,
       ConsultantReassignment consultantReassignment, Optional<Long> tenantId, String accessToken) {
     var reassignmentNotification = new ReassignmentNotificationDTO()
@@ -93,7 +95,7 @@ public class EmailNotificationFacade {
         .isConfirmed(consultantReassignment.getStatus() == ReassignStatus.CONFIRMED);
 
     var userControllerApi = clientFactory.userControllerApi();
-    addDefaultHeaders(userControllerApi.getApiClient(), accessToken, tenantId);
-    userControllerApi.sendReassignmentNotification(reassignmentNotification);
+    ApiRequestHeaders.runWith(headersOf(accessToken, tenantId),
+        () -> userControllerApi.sendReassignmentNotification(reassignmentNotification));
   }
 }
@@ -1,7 +1,11 @@
 package de.caritas.cob.messageservice.api.helper;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import de.caritas.cob.messageservice.api.helper.json.OffsetDateTimeToStringSerializer;
@@ -11,11 +15,26 @@ import de.caritas.cob.messageservice.api.service.LogService;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
-/** Helper class for JSON specific tasks. */
+/**
+ * Helper class for JSON specific tasks. The readers and writers are immutable and thread-safe, so
+ * they are built once and shared by all calls.
+ */
 public class JSONHelper {
 
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final ObjectWriter ALIAS_MESSAGE_DTO_WRITER =
+      OBJECT_MAPPER.writerFor(AliasMessageDTO.class);
+  private static final ObjectReader ALIAS_MESSAGE_DTO_READER =
+      OBJECT_MAPPER.readerFor(AliasMessageDTO.class);
+  private static final ObjectReader FORWARD_MESSAGE_DTO_READER =
+      OBJECT_MAPPER.readerFor(ForwardMessageDTO.class);
+  private static final ObjectWriter OFFSET_DATE_TIME_AS_STRING_WRITER =
+      buildObjectMapper().writer();
+
   private JSONHelper() {}
 
   /**
@@ -28,7 +47,7 @@ public class JSONHelper {
     try {
       return Optional.ofNullable(
           UrlEncodingDecodingUtils.urlEncodeString(
-              new ObjectMapper().writeValueAsString(aliasMessageDTO)));
+              ALIAS_MESSAGE_DTO_WRITER.writeValueAsString(aliasMessageDTO)));
     } catch (JsonProcessingException jsonEx) {
       LogService.logInternalServerError(
           "Could not convert AliasMessageDTO to alias String", jsonEx);
@@ -45,8 +64,7 @@ public class JSONHelper {
   public static Optional<ForwardMessageDTO> convertStringToForwardMessageDTO(String alias) {
     try {
       return Optional.ofNullable(
-          new ObjectMapper()
-              .readValue(UrlEncodingDecodingUtils.urlDecodeString(alias), ForwardMessageDTO.class));
+          FORWARD_MESSAGE_DTO_READER.readValue(UrlEncodingDecodingUtils.urlDecodeString(alias)));
     } catch (IOException jsonParseEx) {
       // This is not an error any more due to restructuring of the alias object. This is not a
       // real error, but necessary due to legacy code
@@ -63,8 +81,7 @@ public class JSONHelper {
   public static Optional<AliasMessageDTO> convertStringToAliasMessageDTO(String alias) {
     try {
       return Optional.ofNullable(
-          new ObjectMapper()
-              .readValue(UrlEncodingDecodingUtils.urlDecodeString(alias), AliasMessageDTO.class));
+          ALIAS_MESSAGE_DTO_READER.readValue(UrlEncodingDecodingUtils.urlDecodeString(alias)));
 
     } catch (IOException jsonParseEx) {
       LogService.logInternalServerError(
@@ -73,6 +90,70 @@ public class JSONHelper {
     }
   }
 
+  /**
+   * Reads a given url encoded json String into a tree, so that its structure can be inspected
+   * before mapping it.
+   *
+   * @param alias String
+   * @return Optional of {@link JsonNode}
+   */
+  public static Optional<JsonNode> convertStringToJsonNode(String alias) {
+    try {
+      return Optional.ofNullable(
+          OBJECT_MAPPER.readTree(UrlEncodingDecodingUtils.urlDecodeString(alias)));
+    } catch (IOException jsonParseEx) {
+      LogService.logInternalServerError("Could not convert alias String to json tree", jsonParseEx);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Maps a given json tree to a {@link ForwardMessageDTO}.
+   *
+   * @param jsonNode the json tree
+   * @return Optional of {@link ForwardMessageDTO}
+   */
+  public static Optional<ForwardMessageDTO> convertJsonNodeToForwardMessageDTO(JsonNode jsonNode) {
+    try {
+      return Optional.ofNullable(FORWARD_MESSAGE_DTO_READER.readValue(jsonNode));
+    } catch (IOException jsonParseEx) {
+      LogService.logInternalServerError(
+          "Could not convert json tree to ForwardMessageDTO", jsonParseEx);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Maps a given json tree to a {@link AliasMessageDTO}.
+   *
+   * @param jsonNode the json tree
+   * @return Optional of {@link AliasMessageDTO}
+   */
+  public static Optional<AliasMessageDTO> convertJsonNodeToAliasMessageDTO(JsonNode jsonNode) {
+    try {
+      return Optional.ofNullable(ALIAS_MESSAGE_DTO_READER.readValue(jsonNode));
+    } catch (IOException jsonParseEx) {
+      LogService.logInternalServerError(
+          "Could not convert json tree to AliasMessageDTO", jsonParseEx);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Returns the json property names a given type is deserialized from.
+   *
+   * @param type the type
+   * @return the property names
+   */
+  public static Set<String> propertyNamesOf(Class<?> type) {
+    return OBJECT_MAPPER.getDeserializationConfig()
+        .introspect(OBJECT_MAPPER.constructType(type))
+        .findProperties()
+        .stream()
+        .map(BeanPropertyDefinition::getName)
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
   /**
    * Serialize a object with specific json serializers.
    *
@@ -83,7 +164,7 @@ public class JSONHelper {
   public static Optional<String> serializeWithOffsetDateTimeAsString(
       Object object, Consumer<Exception> loggingMethod) {
     try {
-      return Optional.of(buildObjectMapper().writeValueAsString(object));
+      return Optional.of(OFFSET_DATE_TIME_AS_STRING_WRITER.writeValueAsString(object));
     } catch (JsonProcessingException jsonProcessingException) {
       loggingMethod.accept(jsonProcessingException);
     }
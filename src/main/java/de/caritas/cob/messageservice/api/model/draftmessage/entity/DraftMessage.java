@@ -8,13 +8,15 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "draftmessage")
+@Table(name = "draftmessage", uniqueConstraints = @UniqueConstraint(
+    name = "draftmessage_user_id_rc_group_id", columnNames = {"user_id", "rc_group_id"}))
 @Data
 @Builder
 @AllArgsConstructor
@@ -1,17 +1,23 @@
 package de.caritas.cob.messageservice.api.model.jsondeserializer;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import de.caritas.cob.messageservice.api.helper.JSONHelper;
 import de.caritas.cob.messageservice.api.helper.UserHelper;
 import de.caritas.cob.messageservice.api.model.AliasMessageDTO;
 import de.caritas.cob.messageservice.api.model.ForwardMessageDTO;
+import de.caritas.cob.messageservice.api.model.MessageType;
 import de.caritas.cob.messageservice.api.model.VideoCallMessageDTO;
 import java.io.IOException;
-import java.util.Optional;
+import java.util.Iterator;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -19,6 +25,20 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class AliasJsonDeserializer extends JsonDeserializer<AliasMessageDTO> {
 
+  private static final Set<String> ALIAS_MESSAGE_DTO_PROPERTIES =
+      JSONHelper.propertyNamesOf(AliasMessageDTO.class);
+  private static final String MESSAGE_TYPE_PROPERTY = "messageType";
+  private static final int MAX_INTERNED_ALIASES = 1_000;
+
+  /**
+   * Message types of repeated aliases consisting of the message type only, like system events,
+   * keyed by the raw alias.
+   */
+  private static final Cache<String, MessageType> INTERNED_MESSAGE_TYPES =
+      CacheBuilder.newBuilder()
+          .maximumSize(MAX_INTERNED_ALIASES)
+          .build();
+
   private final UserHelper userHelper;
 
   public AliasJsonDeserializer() {
@@ -47,19 +67,63 @@ public class AliasJsonDeserializer extends JsonDeserializer<AliasMessageDTO> {
     return getAliasMessageDTO(jsonParser.getValueAsString());
   }
 
+  /**
+   * Decodes the given url encoded alias in a single pass. The json tree is read once and the
+   * structure is determined by its fields: an alias without any property of the current {@link
+   * AliasMessageDTO} is the old {@link ForwardMessageDTO}. Aliases consisting of the message type
+   * only repeat across messages, so their message type is interned and not decoded again.
+   *
+   * @param aliasValue the url encoded alias
+   * @return the {@link AliasMessageDTO} or null if the alias is empty or invalid
+   */
   public AliasMessageDTO getAliasMessageDTO(String aliasValue) {
     if (StringUtils.isBlank(aliasValue)) {
       return null;
     }
 
-    Optional<ForwardMessageDTO> forwardMessageDTO =
-        JSONHelper.convertStringToForwardMessageDTO(aliasValue);
+    MessageType internedMessageType = INTERNED_MESSAGE_TYPES.getIfPresent(aliasValue);
+    if (nonNull(internedMessageType)) {
+      return new AliasMessageDTO().messageType(internedMessageType);
+    }
+
+    JsonNode aliasNode = JSONHelper.convertStringToJsonNode(aliasValue).orElse(null);
+    if (isNull(aliasNode) || aliasNode.isNull() || aliasNode.isMissingNode()) {
+      return null;
+    }
 
-    if (forwardMessageDTO.isPresent()) {
-      return buildAliasMessageDTOByOldForwardDTO(forwardMessageDTO.get());
+    AliasMessageDTO alias = decodeAliasMessageDTO(aliasNode);
+    if (isMessageTypeOnly(aliasNode, alias)) {
+      INTERNED_MESSAGE_TYPES.put(aliasValue, alias.getMessageType());
     }
+    return alias;
+  }
+
+  private AliasMessageDTO decodeAliasMessageDTO(JsonNode aliasNode) {
+    if (isOldForwardMessageDTO(aliasNode)) {
+      return JSONHelper.convertJsonNodeToForwardMessageDTO(aliasNode)
+          .map(this::buildAliasMessageDTOByOldForwardDTO)
+          .orElse(null);
+    }
+
+    return buildAliasMessageDTOWithPossibleVideoCallMessageDTO(aliasNode);
+  }
+
+  private boolean isOldForwardMessageDTO(JsonNode aliasNode) {
+    if (!aliasNode.isObject()) {
+      return false;
+    }
+    Iterator<String> fieldNames = aliasNode.fieldNames();
+    while (fieldNames.hasNext()) {
+      if (ALIAS_MESSAGE_DTO_PROPERTIES.contains(fieldNames.next())) {
+        return false;
+      }
+    }
+    return true;
+  }
 
-    return buildAliasMessageDTOWithPossibleVideoCallMessageDTO(aliasValue);
+  private boolean isMessageTypeOnly(JsonNode aliasNode, AliasMessageDTO alias) {
+    return nonNull(alias) && nonNull(alias.getMessageType())
+        && aliasNode.size() == 1 && aliasNode.has(MESSAGE_TYPE_PROPERTY);
   }
 
   private AliasMessageDTO buildAliasMessageDTOByOldForwardDTO(ForwardMessageDTO forwardMessageDTO) {
@@ -67,8 +131,8 @@ public class AliasJsonDeserializer extends JsonDeserializer<AliasMessageDTO> {
     return new AliasMessageDTO().forwardMessageDTO(forwardMessageDTO);
   }
 
-  private AliasMessageDTO buildAliasMessageDTOWithPossibleVideoCallMessageDTO(String aliasValue) {
-    AliasMessageDTO alias = JSONHelper.convertStringToAliasMessageDTO(aliasValue).orElse(null);
+  private AliasMessageDTO buildAliasMessageDTOWithPossibleVideoCallMessageDTO(JsonNode aliasNode) {
+    AliasMessageDTO alias = JSONHelper.convertJsonNodeToAliasMessageDTO(aliasNode).orElse(null);
     if (nonNull(alias)) {
       decodeUsernameOfForwardMessageDTOIfNonNull(alias);
       decodeUsernameOfVideoCallMessageDTOIfNonNull(alias);
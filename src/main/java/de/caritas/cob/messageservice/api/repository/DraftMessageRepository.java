@@ -1,11 +1,66 @@
 package de.caritas.cob.messageservice.api.repository;
 
 import de.caritas.cob.messageservice.api.model.draftmessage.entity.DraftMessage;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface DraftMessageRepository extends CrudRepository<DraftMessage, Long> {
 
   Optional<DraftMessage> findByUserIdAndRcGroupId(String userId, String rcGroupId);
 
+  @Query("SELECT d.id FROM DraftMessage d WHERE d.userId = :userId AND d.rcGroupId = :rcGroupId")
+  Optional<Long> findIdByUserIdAndRcGroupId(@Param("userId") String userId,
+      @Param("rcGroupId") String rcGroupId);
+
+  /**
+   * Overwrites message and type of the draft message with the given ID, if it still exists.
+   *
+   * @return 1 if the draft has been found, 0 if it has been deleted
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE DraftMessage d SET d.message = :message, d.t = :t WHERE d.id = :id")
+  int updateDraftMessageById(@Param("id") Long id, @Param("message") String message,
+      @Param("t") String t);
+
+  /**
+   * Overwrites message and type of the draft message of the user in the group.
+   *
+   * @return the number of drafts found for the user in the group
+   */
+  @Transactional
+  @Modifying
+  @Query("UPDATE DraftMessage d SET d.message = :message, d.t = :t "
+      + "WHERE d.userId = :userId AND d.rcGroupId = :rcGroupId")
+  int updateDraftMessage(@Param("userId") String userId, @Param("rcGroupId") String rcGroupId,
+      @Param("message") String message, @Param("t") String t);
+
+  /**
+   * Inserts a draft message. The unique index on user and group rejects the insert with a
+   * {@link org.springframework.dao.DataIntegrityViolationException} if the user already has a
+   * draft in the group.
+   */
+  @Transactional
+  @Modifying
+  @Query(value = "INSERT INTO draftmessage (id, user_id, rc_group_id, draft_message, t, "
+      + "create_date) VALUES (NEXT VALUE FOR sequence_draftmessage, :userId, :rcGroupId, "
+      + ":message, :t, :createDate)", nativeQuery = true)
+  void insertDraftMessage(@Param("userId") String userId, @Param("rcGroupId") String rcGroupId,
+      @Param("message") String message, @Param("t") String t,
+      @Param("createDate") LocalDateTime createDate);
+
+  /**
+   * Deletes the draft message of the user in the group, if present.
+   */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM DraftMessage d WHERE d.userId = :userId AND d.rcGroupId = :rcGroupId")
+  void deleteByUserIdAndRcGroupId(@Param("userId") String userId,
+      @Param("rcGroupId") String rcGroupId);
+
 }
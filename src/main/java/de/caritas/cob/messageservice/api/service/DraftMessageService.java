@@ -3,7 +3,10 @@ package de.caritas.cob.messageservice.api.service;
 import static de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType.NEW_MESSAGE;
 import static de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType.OVERWRITTEN_MESSAGE;
 import static de.caritas.cob.messageservice.api.service.RocketChatService.E2E_ENCRYPTION_TYPE;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
 
+import com.google.common.collect.Lists;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.exception.InternalServerErrorException;
 import de.caritas.cob.messageservice.api.helper.AuthenticatedUser;
@@ -12,23 +15,59 @@ import de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType;
 import de.caritas.cob.messageservice.api.model.draftmessage.entity.DraftMessage;
 import de.caritas.cob.messageservice.api.repository.DraftMessageRepository;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import javax.annotation.PreDestroy;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
- * Service class to provide creation, updating and deletion of draft messages.
+ * Service class to provide creation, updating and deletion of draft messages. New drafts and
+ * deletions are written to the database right away. Overwriting an existing draft is buffered per
+ * user and group and written to the database in batches, so rapid successive saves of the same
+ * draft result in one database write.
+ *
+ * <p>The buffer is local to the instance: until it is flushed, other instances read the previous
+ * content of a draft. A buffered draft only updates the database row it was saved for, so a draft
+ * deleted meanwhile, e.g. because the message has been sent through another instance, is never
+ * written back.
  */
 @Service
 @RequiredArgsConstructor
 public class DraftMessageService {
 
+  private static final String UNIQUE_DRAFT_INDEX = "draftmessage_user_id_rc_group_id";
+
   private final @NonNull DraftMessageRepository draftMessageRepository;
   private final @NonNull EncryptionService encryptionService;
   private final @NonNull AuthenticatedUser authenticatedUser;
+  private final @NonNull TransactionTemplate transactionTemplate;
+
+  @Value("${draft.message.buffer.max.size}")
+  private int bufferMaxSize;
+
+  @Value("${draft.message.buffer.batch.size}")
+  private int batchSize;
+
+  @Value("${draft.message.buffer.max.attempts}")
+  private int maxWriteAttempts;
+
+  /* overwritten drafts not yet written by user and group, the latest save wins */
+  private final Map<DraftKey, PendingDraft> pendingDrafts = new ConcurrentHashMap<>();
 
   /**
    * Encrypts and saves a draft message. The message will be overwritten if a message for the given
@@ -39,40 +78,73 @@ public class DraftMessageService {
    * @param t               type of the message
    * @return a {@link SavedDraftType} for the created type
    */
-  public synchronized SavedDraftType saveDraftMessage(String message, String rcGroupId, String t) {
+  public SavedDraftType saveDraftMessage(String message, String rcGroupId, String t) {
 
-    var optionalDraftMessage = findDraftMessage(rcGroupId);
-    var draftMessage = createOrUpdateDraftMessage(rcGroupId, t, optionalDraftMessage);
+    var draftMessage = buildNewDraftMessage(rcGroupId, t);
     updateMessage(message, rcGroupId, draftMessage);
-    this.draftMessageRepository.save(draftMessage);
-
-    return extractSavedDraftType(optionalDraftMessage);
-  }
-
-  private DraftMessage createOrUpdateDraftMessage(String rcGroupId, String t,
-      Optional<DraftMessage> optionalDraftMessage) {
-    var draftMessageRef = new AtomicReference<DraftMessage>();
-    optionalDraftMessage.ifPresentOrElse(
-        dm -> {
-          dm.setT(t);
-          draftMessageRef.set(dm);
-        },
-        () -> {
-          var dm = buildNewDraftMessage(rcGroupId, t);
-          draftMessageRef.set(dm);
-        }
-    );
 
-    return draftMessageRef.get();
+    var draftKey = new DraftKey(draftMessage.getUserId(), rcGroupId);
+    var pendingDraft = pendingDrafts.computeIfPresent(draftKey,
+        (key, pending) -> pending.overwrittenBy(draftMessage));
+    if (nonNull(pendingDraft)) {
+      return OVERWRITTEN_MESSAGE;
+    }
+
+    var draftId = this.draftMessageRepository
+        .findIdByUserIdAndRcGroupId(draftMessage.getUserId(), rcGroupId);
+    if (draftId.isEmpty()) {
+      return insertDraftMessage(draftMessage);
+    }
+    bufferDraft(draftKey, new PendingDraft(draftId.get(), draftMessage));
+    return OVERWRITTEN_MESSAGE;
+  }
+
+  /*
+   * A draft inserted concurrently for the same user and group violates the unique index and is
+   * overwritten instead. Any other violation is rethrown.
+   */
+  private SavedDraftType insertDraftMessage(DraftMessage draftMessage) {
+    try {
+      this.draftMessageRepository.insertDraftMessage(draftMessage.getUserId(),
+          draftMessage.getRcGroupId(), draftMessage.getMessage(), draftMessage.getT(),
+          draftMessage.getCreateDate());
+      return NEW_MESSAGE;
+    } catch (DataIntegrityViolationException ex) {
+      if (!isDuplicateDraft(ex)) {
+        throw ex;
+      }
+      this.draftMessageRepository.updateDraftMessage(draftMessage.getUserId(),
+          draftMessage.getRcGroupId(), draftMessage.getMessage(), draftMessage.getT());
+      return OVERWRITTEN_MESSAGE;
+    }
+  }
+
+  private static boolean isDuplicateDraft(DataIntegrityViolationException ex) {
+    return ex.getCause() instanceof ConstraintViolationException
+        && containsIgnoreCase(((ConstraintViolationException) ex.getCause()).getConstraintName(),
+        UNIQUE_DRAFT_INDEX);
+  }
+
+  /* a full buffer is bypassed instead of flushed, so requests never wait for a flush */
+  private void bufferDraft(DraftKey draftKey, PendingDraft pendingDraft) {
+    if (pendingDrafts.size() < bufferMaxSize) {
+      pendingDrafts.put(draftKey, pendingDraft);
+    } else {
+      writeDraft(pendingDraft);
+    }
   }
 
   private Optional<DraftMessage> findDraftMessage(String rcGroupId) {
+    var pendingDraft = pendingDrafts.get(currentDraftKey(rcGroupId));
+    if (nonNull(pendingDraft)) {
+      return Optional.of(pendingDraft.draftMessage);
+    }
     return this.draftMessageRepository
         .findByUserIdAndRcGroupId(this.authenticatedUser.getUserId(), rcGroupId);
   }
 
-  private SavedDraftType extractSavedDraftType(Optional<DraftMessage> optionalDraftMessage) {
-    return optionalDraftMessage.isPresent() ? OVERWRITTEN_MESSAGE : NEW_MESSAGE;
+  private DraftKey currentDraftKey(String rcGroupId) {
+    return new DraftKey(this.authenticatedUser.getUserId(), rcGroupId);
   }
 
   private DraftMessage buildNewDraftMessage(String rcGroupId, String t) {
@@ -103,16 +175,86 @@ public class DraftMessageService {
   }
 
   /**
-   * Deletes a draft message if exists.
+   * Deletes a draft message if exists, including changes not yet written to the database.
    *
    * @param rcGroupId the rocket chat group id
    */
-  public synchronized void deleteDraftMessageIfExist(String rcGroupId) {
-    this.findDraftMessage(rcGroupId).ifPresent(this::deleteDraftMessage);
+  public void deleteDraftMessageIfExist(String rcGroupId) {
+    pendingDrafts.remove(currentDraftKey(rcGroupId));
+    this.draftMessageRepository
+        .deleteByUserIdAndRcGroupId(this.authenticatedUser.getUserId(), rcGroupId);
   }
 
-  private void deleteDraftMessage(DraftMessage draftMessage) {
-    this.draftMessageRepository.delete(draftMessage);
+  /**
+   * Writes the buffered drafts to the database, one transaction per batch. Drafts saved while a
+   * batch is written stay in the buffer for the next flush. If a batch fails, its drafts are
+   * written one by one, and a draft failing repeatedly is dropped. If the database is not
+   * available, the flush stops and the drafts are retried with the next flush.
+   */
+  @Scheduled(fixedDelayString = "${draft.message.buffer.flush.interval.millis}")
+  public synchronized void flush() {
+    for (var draftKeys : Lists.partition(List.copyOf(pendingDrafts.keySet()), batchSize)) {
+      var batch = new HashMap<DraftKey, PendingDraft>();
+      draftKeys.forEach(draftKey -> {
+        var pendingDraft = pendingDrafts.get(draftKey);
+        if (nonNull(pendingDraft)) {
+          batch.put(draftKey, pendingDraft);
+        }
+      });
+
+      try {
+        transactionTemplate.executeWithoutResult(
+            status -> batch.values().forEach(this::writeDraft));
+        batch.forEach((draftKey, pendingDraft) -> pendingDrafts.remove(draftKey, pendingDraft));
+      } catch (RuntimeException ex) {
+        if (isDatabaseUnavailable(ex) || !flushOneByOne(batch)) {
+          LogService.logInternalServerError("Draft messages could not be written", ex);
+          return;
+        }
+      }
+    }
+  }
+
+  private boolean flushOneByOne(Map<DraftKey, PendingDraft> batch) {
+    for (var entry : batch.entrySet()) {
+      var pendingDraft = entry.getValue();
+      try {
+        writeDraft(pendingDraft);
+        pendingDrafts.remove(entry.getKey(), pendingDraft);
+      } catch (RuntimeException ex) {
+        if (isDatabaseUnavailable(ex)) {
+          return false;
+        }
+        if (++pendingDraft.failedAttempts >= maxWriteAttempts) {
+          pendingDrafts.remove(entry.getKey(), pendingDraft);
+          LogService.logInternalServerError(String.format(
+              "Draft message of group %s dropped after %d failed attempts",
+              entry.getKey().rcGroupId, pendingDraft.failedAttempts), ex);
+        }
+      }
+    }
+    return true;
+  }
+
+  private static boolean isDatabaseUnavailable(RuntimeException ex) {
+    return ex instanceof TransientDataAccessException
+        || ex instanceof DataAccessResourceFailureException
+        || ex instanceof CannotCreateTransactionException;
+  }
+
+  private void writeDraft(PendingDraft pendingDraft) {
+    var draftMessage = pendingDraft.draftMessage;
+    this.draftMessageRepository.updateDraftMessageById(pendingDraft.draftId,
+        draftMessage.getMessage(), draftMessage.getT());
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  int pendingDraftCount() {
+    return pendingDrafts.size();
   }
 
   /**
@@ -137,10 +279,10 @@ public class DraftMessageService {
   }
 
   private Function<DraftMessage, DraftMessage> toDecryptedMessage(String rcGroupId) {
-    return dm -> {
-      dm.setMessage(decryptMessage(dm.getMessage(), rcGroupId));
-      return dm;
-    };
+    return dm -> DraftMessage.builder()
+        .message(decryptMessage(dm.getMessage(), rcGroupId))
+        .t(dm.getT())
+        .build();
   }
 
   private String decryptMessage(String encryptedMessage, String rcGroupId) {
@@ -151,4 +293,54 @@ public class DraftMessageService {
     }
   }
 
+  private static final class DraftKey {
+
+    private final String userId;
+    private final String rcGroupId;
+
+    private DraftKey(String userId, String rcGroupId) {
+      this.userId = userId;
+      this.rcGroupId = rcGroupId;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof DraftKey)) {
+        return false;
+      }
+      var draftKey = (DraftKey) other;
+      return Objects.equals(userId, draftKey.userId)
+          && Objects.equals(rcGroupId, draftKey.rcGroupId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(userId, rcGroupId);
+    }
+  }
+
+  private static final class PendingDraft {
+
+    /* the database ID of the draft to overwrite */
+    private final Long draftId;
+
+    /* the draft to save with its message already encrypted */
+    private final DraftMessage draftMessage;
+
+    /* only changed by the flushing thread */
+    private int failedAttempts;
+
+    private PendingDraft(Long draftId, DraftMessage draftMessage) {
+      this.draftId = draftId;
+      this.draftMessage = draftMessage;
+    }
+
+    private PendingDraft overwrittenBy(DraftMessage draftMessage) {
+      return new PendingDraft(draftId, draftMessage);
+    }
+  }
+
 }
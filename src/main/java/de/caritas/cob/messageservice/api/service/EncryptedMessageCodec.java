@@ -0,0 +1,158 @@
+package de.caritas.cob.messageservice.api.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Allocation-lean codec for the textual form of encrypted messages ("enc:" followed by the Base64
+ * encoded cipher text). Encoding writes the flag and the Base64 output into one pre-sized buffer,
+ * decoding reads the Base64 characters directly from the message without copying the substring
+ * behind the flag.
+ */
+final class EncryptedMessageCodec {
+
+  static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
+
+  private static final byte[] ENCRYPTED_MESSAGE_FLAG_BYTES =
+      ENCRYPTED_MESSAGE_FLAG.getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] BASE64_ALPHABET =
+      "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+          .getBytes(StandardCharsets.US_ASCII);
+  private static final int[] BASE64_DECODE_TABLE = new int[128];
+  private static final char BASE64_PADDING = '=';
+
+  static {
+    Arrays.fill(BASE64_DECODE_TABLE, -1);
+    for (var i = 0; i < BASE64_ALPHABET.length; i++) {
+      BASE64_DECODE_TABLE[BASE64_ALPHABET[i]] = i;
+    }
+  }
+
+  private EncryptedMessageCodec() {
+  }
+
+  static boolean isEncrypted(String message) {
+    return message != null && message.startsWith(ENCRYPTED_MESSAGE_FLAG);
+  }
+
+  /**
+   * Returns the length of the encoded message for a cipher text of the given length.
+   *
+   * @param cipherTextLength the length of the cipher text
+   * @return the number of characters of the flagged Base64 representation
+   */
+  static int encodedLength(int cipherTextLength) {
+    return ENCRYPTED_MESSAGE_FLAG_BYTES.length + 4 * ((cipherTextLength + 2) / 3);
+  }
+
+  /**
+   * Encodes the given cipher text to its flagged Base64 representation.
+   *
+   * @param cipherText the buffer containing the cipher text
+   * @param length     the length of the cipher text within the buffer
+   * @param buffer     the buffer to encode into, at least {@link #encodedLength(int)} long
+   * @return the encoded message
+   */
+  static String encode(byte[] cipherText, int length, byte[] buffer) {
+    System.arraycopy(ENCRYPTED_MESSAGE_FLAG_BYTES, 0, buffer, 0,
+        ENCRYPTED_MESSAGE_FLAG_BYTES.length);
+    var position = ENCRYPTED_MESSAGE_FLAG_BYTES.length;
+    var fullGroupsEnd = length - length % 3;
+
+    for (var i = 0; i < fullGroupsEnd; i += 3) {
+      var bits = (cipherText[i] & 0xff) << 16
+          | (cipherText[i + 1] & 0xff) << 8
+          | (cipherText[i + 2] & 0xff);
+      buffer[position++] = BASE64_ALPHABET[bits >>> 18];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 6) & 0x3f];
+      buffer[position++] = BASE64_ALPHABET[bits & 0x3f];
+    }
+
+    if (fullGroupsEnd < length) {
+      var bits = (cipherText[fullGroupsEnd] & 0xff) << 16;
+      var hasSecondByte = fullGroupsEnd + 1 < length;
+      if (hasSecondByte) {
+        bits |= (cipherText[fullGroupsEnd + 1] & 0xff) << 8;
+      }
+      buffer[position++] = BASE64_ALPHABET[bits >>> 18];
+      buffer[position++] = BASE64_ALPHABET[(bits >>> 12) & 0x3f];
+      buffer[position++] =
+          hasSecondByte ? BASE64_ALPHABET[(bits >>> 6) & 0x3f] : (byte) BASE64_PADDING;
+      buffer[position++] = (byte) BASE64_PADDING;
+    }
+
+    return new String(buffer, 0, position, StandardCharsets.ISO_8859_1);
+  }
+
+  /**
+   * Returns the maximum length of the cipher text contained in the given encoded message.
+   *
+   * @param encodedMessage the flagged Base64 representation
+   * @return the buffer size needed to decode the message
+   */
+  static int maxDecodedLength(String encodedMessage) {
+    var encodedLength = encodedMessage.length() - ENCRYPTED_MESSAGE_FLAG.length();
+    return 3 * ((encodedLength + 3) / 4);
+  }
+
+  /**
+   * Decodes the cipher text of the given encoded message into the buffer.
+   *
+   * @param encodedMessage the flagged Base64 representation
+   * @param buffer         the buffer to decode into, at least {@link #maxDecodedLength(String)}
+   *                       long
+   * @return the length of the decoded cipher text
+   * @throws IllegalArgumentException if the message is not a valid Base64 representation
+   */
+  static int decode(String encodedMessage, byte[] buffer) {
+    var start = ENCRYPTED_MESSAGE_FLAG.length();
+    var end = encodedMessage.length();
+
+    if ((end - start) % 4 != 0) {
+      // unpadded input is rare, so leave it to the lenient decoder of the JDK
+      var decoded = Base64.getDecoder().decode(encodedMessage.substring(start));
+      System.arraycopy(decoded, 0, buffer, 0, decoded.length);
+      return decoded.length;
+    }
+
+    var padding = 0;
+    if (end > start && encodedMessage.charAt(end - 1) == BASE64_PADDING) {
+      padding = encodedMessage.charAt(end - 2) == BASE64_PADDING ? 2 : 1;
+    }
+
+    var position = 0;
+    for (var i = start; i < end; i += 4) {
+      var isLastGroup = i + 4 == end;
+      var bits = decodeChar(encodedMessage, i) << 18
+          | decodeChar(encodedMessage, i + 1) << 12;
+      if (isLastGroup && padding == 2) {
+        buffer[position++] = (byte) (bits >>> 16);
+        break;
+      }
+      bits |= decodeChar(encodedMessage, i + 2) << 6;
+      if (isLastGroup && padding == 1) {
+        buffer[position++] = (byte) (bits >>> 16);
+        buffer[position++] = (byte) (bits >>> 8);
+        break;
+      }
+      bits |= decodeChar(encodedMessage, i + 3);
+      buffer[position++] = (byte) (bits >>> 16);
+      buffer[position++] = (byte) (bits >>> 8);
+      buffer[position++] = (byte) bits;
+    }
+
+    return position;
+  }
+
+  private static int decodeChar(String encodedMessage, int index) {
+    var character = encodedMessage.charAt(index);
+    var value = character < BASE64_DECODE_TABLE.length ? BASE64_DECODE_TABLE[character] : -1;
+    if (value < 0) {
+      throw new IllegalArgumentException(
+          String.format("Illegal base64 character %s at index %d", character, index));
+    }
+    return value;
+  }
+}
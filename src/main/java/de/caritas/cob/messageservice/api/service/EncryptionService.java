@@ -1,13 +1,23 @@
 package de.caritas.cob.messageservice.api.service;
 
+import static de.caritas.cob.messageservice.api.service.EncryptedMessageCodec.encodedLength;
+import static de.caritas.cob.messageservice.api.service.EncryptedMessageCodec.isEncrypted;
+import static de.caritas.cob.messageservice.api.service.EncryptedMessageCodec.maxDecodedLength;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.exception.NoMasterKeyException;
-import java.io.UnsupportedEncodingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Base64;
+import java.util.List;
+import java.util.function.Consumer;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
@@ -15,7 +25,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
-public class EncryptionService {
+public class EncryptionService implements MeterBinder {
 
   private static final String CIPHER_METHODS = "AES/ECB/PKCS5PADDING";
   private static final String SECRET_KEY_SPEC_METHOD = "AES";
@@ -23,20 +33,41 @@ public class EncryptionService {
 
   private static final String INITIAL_MASTER_KEY = "initialMasterKey";
 
-  private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
+  private static final String SECRET_KEY_CACHE_NAME = "encryptionSecretKeyCache";
+  private static final long SECRET_KEY_CACHE_MAXIMUM_SIZE = 10_000;
+
+  /*
+   * Cipher and MessageDigest instances are not thread-safe, but cheap to re-initialise. Keeping one
+   * per thread avoids the synchronized provider lookups of the JCA on every call.
+   */
+  private static final ThreadLocal<Cipher> CIPHER =
+      ThreadLocal.withInitial(() -> newCryptoInstance(() -> Cipher.getInstance(CIPHER_METHODS)));
+  private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST =
+      ThreadLocal.withInitial(
+          () -> newCryptoInstance(() -> MessageDigest.getInstance(MESSAGE_DIGEST_METHOD)));
+  private static final ThreadLocal<CodecBuffers> CODEC_BUFFERS =
+      ThreadLocal.withInitial(CodecBuffers::new);
 
   @Value("${service.encryption.appkey}")
   private String fragment_applicationKey;
 
-  private String fragment_masterKey = INITIAL_MASTER_KEY;
+  private volatile String fragment_masterKey = INITIAL_MASTER_KEY;
+
+  private final Cache<String, SecretKeySpec> secretKeySpecCache = CacheBuilder.newBuilder()
+      .maximumSize(SECRET_KEY_CACHE_MAXIMUM_SIZE)
+      .recordStats()
+      .build();
 
   /**
-   * Updates the Master-Key fragment
+   * Updates the Master-Key fragment and evicts all keys derived from the previous one.
    * 
    * @param masterKey The master-key fragment
    */
   public void updateMasterKey(String masterKey) {
-    this.fragment_masterKey = masterKey;
+    synchronized (secretKeySpecCache) {
+      this.fragment_masterKey = masterKey;
+      this.secretKeySpecCache.invalidateAll();
+    }
   }
 
   /**
@@ -58,22 +89,54 @@ public class EncryptionService {
   }
 
   /**
-   * Prepares the SecretKeySpec for a given Key
+   * Exposes the hit and miss statistics of the derived secret key cache.
+   *
+   * @param registry the {@link MeterRegistry} to bind the cache metrics to
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    GuavaCacheMetrics.monitor(registry, secretKeySpecCache, SECRET_KEY_CACHE_NAME);
+  }
+
+  /**
+   * Returns the SecretKeySpec for a given Key. Derived keys are cached per secret until the
+   * master-key changes.
    * 
    * @param secret The Key for the generation
-   * @return The SecretKeySpec based on the key or <null> in aces of an error
-   * @throws NoSuchAlgorithmException
-   * @throws UnsupportedEncodingException
+   * @return The SecretKeySpec based on the key
    */
-  private SecretKeySpec generateSecretKeySpec(String secret)
-      throws UnsupportedEncodingException, NoSuchAlgorithmException {
+  private SecretKeySpec obtainSecretKeySpec(String secret) {
 
-    if (getMasterKey().equals(INITIAL_MASTER_KEY)) {
+    var masterKey = getMasterKey();
+    if (masterKey.equals(INITIAL_MASTER_KEY)) {
       throw new NoMasterKeyException("No MasterKey found - please provide a MasterKey!");
     }
 
-    byte[] keyByte = (getMasterKey() + secret + getApplicationKey()).getBytes("UTF-8");
-    MessageDigest sha = MessageDigest.getInstance(MESSAGE_DIGEST_METHOD);
+    var keySpec = secretKeySpecCache.getIfPresent(secret);
+    if (keySpec == null) {
+      keySpec = generateSecretKeySpec(masterKey, secret);
+      // do not cache keys derived from a master-key that has been replaced in the meantime
+      synchronized (secretKeySpecCache) {
+        if (masterKey.equals(getMasterKey())) {
+          secretKeySpecCache.put(secret, keySpec);
+        }
+      }
+    }
+
+    return keySpec;
+  }
+
+  /**
+   * Prepares the SecretKeySpec for a given Key
+   * 
+   * @param masterKey The master-key fragment
+   * @param secret The Key for the generation
+   * @return The SecretKeySpec based on the key
+   */
+  private SecretKeySpec generateSecretKeySpec(String masterKey, String secret) {
+    byte[] keyByte = (masterKey + secret + getApplicationKey())
+        .getBytes(StandardCharsets.UTF_8);
+    MessageDigest sha = MESSAGE_DIGEST.get();
     keyByte = sha.digest(keyByte);
     keyByte = Arrays.copyOf(keyByte, 16);
     return new SecretKeySpec(keyByte, SECRET_KEY_SPEC_METHOD);
@@ -88,12 +151,16 @@ public class EncryptionService {
    */
   public String encrypt(String messageToEncrypt, String secret) throws CustomCryptoException {
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = CIPHER.get();
       cipher.init(Cipher.ENCRYPT_MODE, keySpec);
-      return ENCRYPTED_MESSAGE_FLAG
-          + Base64.getEncoder().encodeToString(cipher.doFinal(messageToEncrypt.getBytes(
-          StandardCharsets.UTF_8)));
+
+      var codecBuffers = CODEC_BUFFERS.get();
+      var plainText = messageToEncrypt.getBytes(StandardCharsets.UTF_8);
+      var cipherText = codecBuffers.cipherTextBuffer(cipher.getOutputSize(plainText.length));
+      var cipherTextLength = cipher.doFinal(plainText, 0, plainText.length, cipherText, 0);
+      var encoded = codecBuffers.encodedBuffer(encodedLength(cipherTextLength));
+      return EncryptedMessageCodec.encode(cipherText, cipherTextLength, encoded);
     } catch (Exception e) {
       LogService.logEncryptionServiceError(e);
       throw new CustomCryptoException(e);
@@ -109,17 +176,53 @@ public class EncryptionService {
    */
   public String decrypt(String messageToDecrypt, String secret) throws CustomCryptoException {
 
-    if (messageToDecrypt == null || !messageToDecrypt.startsWith(ENCRYPTED_MESSAGE_FLAG)) {
+    if (!isEncrypted(messageToDecrypt)) {
       return messageToDecrypt;
     }
 
-    messageToDecrypt = messageToDecrypt.substring(ENCRYPTED_MESSAGE_FLAG.length());
-
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = CIPHER.get();
       cipher.init(Cipher.DECRYPT_MODE, keySpec);
-      return new String(cipher.doFinal(Base64.getDecoder().decode(messageToDecrypt)));
+      return decryptWith(cipher, messageToDecrypt, CODEC_BUFFERS.get());
+    } catch (BadPaddingException e) {
+      LogService.logEncryptionPossibleBadKeyError(e);
+      throw new CustomCryptoException(e);
+    } catch (Exception e) {
+      LogService.logEncryptionServiceError(e);
+      throw new CustomCryptoException(e);
+    }
+  }
+
+  /**
+   * Decrypt a batch of messages with the given secret. The key is derived and the cipher is
+   * initialised only once for the whole batch, and the decoding buffers are shared between the
+   * messages. Messages which are not encrypted are returned as they are.
+   *
+   * @param messagesToDecrypt The messages to decrypt
+   * @param secret The secret to be used
+   * @return The decrypted messages in the order of the given messages
+   */
+  public List<String> decryptAll(List<String> messagesToDecrypt, String secret)
+      throws CustomCryptoException {
+
+    var decryptedMessages = new ArrayList<String>(messagesToDecrypt.size());
+    Cipher cipher = null;
+    var codecBuffers = CODEC_BUFFERS.get();
+
+    try {
+      for (String messageToDecrypt : messagesToDecrypt) {
+        if (!isEncrypted(messageToDecrypt)) {
+          decryptedMessages.add(messageToDecrypt);
+          continue;
+        }
+
+        if (cipher == null) {
+          cipher = CIPHER.get();
+          cipher.init(Cipher.DECRYPT_MODE, obtainSecretKeySpec(secret));
+        }
+        decryptedMessages.add(decryptWith(cipher, messageToDecrypt, codecBuffers));
+      }
     } catch (BadPaddingException e) {
       LogService.logEncryptionPossibleBadKeyError(e);
       throw new CustomCryptoException(e);
@@ -127,6 +230,80 @@ public class EncryptionService {
       LogService.logEncryptionServiceError(e);
       throw new CustomCryptoException(e);
     }
+
+    return decryptedMessages;
+  }
+
+  private String decryptWith(Cipher cipher, String messageToDecrypt, CodecBuffers codecBuffers)
+      throws GeneralSecurityException {
+    var cipherText = codecBuffers.cipherTextBuffer(maxDecodedLength(messageToDecrypt));
+    var cipherTextLength = EncryptedMessageCodec.decode(messageToDecrypt, cipherText);
+    var plainTextSize = cipher.getOutputSize(cipherTextLength);
+    var plainText = codecBuffers.plainTextBuffer(plainTextSize);
+    try {
+      var plainTextLength = cipher.doFinal(cipherText, 0, cipherTextLength, plainText, 0);
+      return new String(plainText, 0, plainTextLength, StandardCharsets.UTF_8);
+    } finally {
+      Arrays.fill(plainText, 0, plainTextSize, (byte) 0);
+    }
+  }
+
+  private static <T> T newCryptoInstance(CryptoInstanceSupplier<T> supplier) {
+    try {
+      return supplier.get();
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface CryptoInstanceSupplier<T> {
+
+    T get() throws GeneralSecurityException;
+  }
+
+  /**
+   * Per thread buffers for the intermediate results of the en- and decryption. Buffers exceeding
+   * the retained size are only used for the current message, so common chat messages reuse the
+   * buffers while each thread keeps less than 50KB alive. The plain text buffer is cleared after
+   * each use, so no decrypted content stays on the heap.
+   */
+  private static class CodecBuffers {
+
+    private static final int MAX_RETAINED_BUFFER_SIZE = 16 * 1024;
+
+    private byte[] cipherText = new byte[0];
+    private byte[] plainText = new byte[0];
+    private byte[] encoded = new byte[0];
+
+    byte[] cipherTextBuffer(int size) {
+      if (cipherText.length < size) {
+        return retainIfSmallEnough(size, buffer -> cipherText = buffer);
+      }
+      return cipherText;
+    }
+
+    byte[] plainTextBuffer(int size) {
+      if (plainText.length < size) {
+        return retainIfSmallEnough(size, buffer -> plainText = buffer);
+      }
+      return plainText;
+    }
+
+    byte[] encodedBuffer(int size) {
+      if (encoded.length < size) {
+        return retainIfSmallEnough(size, buffer -> encoded = buffer);
+      }
+      return encoded;
+    }
+
+    private byte[] retainIfSmallEnough(int size, Consumer<byte[]> retainer) {
+      var buffer = new byte[size];
+      if (size <= MAX_RETAINED_BUFFER_SIZE) {
+        retainer.accept(buffer);
+      }
+      return buffer;
+    }
   }
 
 }
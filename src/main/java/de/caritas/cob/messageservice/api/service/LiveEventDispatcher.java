@@ -0,0 +1,95 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Coalesces live events per Rocket.Chat group and sender. Events are collected until the next
+ * flush, so a sender posting several messages to a group within the debounce window triggers only
+ * one live event. Events of different senders are kept apart, because the live proxy uses the
+ * access token to determine the sender.
+ */
+@Service
+@RequiredArgsConstructor
+public class LiveEventDispatcher {
+
+  private final @NonNull LiveEventNotificationService liveEventNotificationService;
+
+  /* pending live events by Rocket.Chat group ID and access token */
+  private final Map<LiveEventKey, Optional<Long>> pendingLiveEvents = new ConcurrentHashMap<>();
+
+  /**
+   * Schedules a live event for the specified Rocket.Chat group.
+   *
+   * @param rcGroupId   Rocket.Chat group ID
+   * @param accessToken the access token used to call the live proxy
+   * @param tenantId    the tenant ID
+   */
+  public void dispatchLiveEvent(String rcGroupId, String accessToken, Optional<Long> tenantId) {
+    pendingLiveEvents.put(new LiveEventKey(rcGroupId, accessToken), tenantId);
+  }
+
+  /**
+   * Sends one live event for each group and sender with pending events.
+   */
+  @Scheduled(fixedDelayString = "${live.event.debounce.window.millis}")
+  public void flush() {
+    for (var liveEventKey : List.copyOf(pendingLiveEvents.keySet())) {
+      var tenantId = pendingLiveEvents.remove(liveEventKey);
+      if (isNull(tenantId)) {
+        continue;
+      }
+
+      liveEventNotificationService.sendLiveEvent(liveEventKey.rcGroupId, liveEventKey.accessToken,
+          tenantId);
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  int pendingLiveEventCount() {
+    return pendingLiveEvents.size();
+  }
+
+  private static final class LiveEventKey {
+
+    private final String rcGroupId;
+    private final String accessToken;
+
+    private LiveEventKey(String rcGroupId, String accessToken) {
+      this.rcGroupId = rcGroupId;
+      this.accessToken = accessToken;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (!(other instanceof LiveEventKey)) {
+        return false;
+      }
+      var liveEventKey = (LiveEventKey) other;
+      return Objects.equals(rcGroupId, liveEventKey.rcGroupId)
+          && Objects.equals(accessToken, liveEventKey.accessToken);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(rcGroupId, accessToken);
+    }
+  }
+}
@@ -1,10 +1,11 @@
 package de.caritas.cob.messageservice.api.service;
 
+import static de.caritas.cob.messageservice.config.AsyncConfig.LIVE_EVENT_EXECUTOR;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
 
 import de.caritas.cob.messageservice.api.service.helper.ServiceHelper;
 import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
-import de.caritas.cob.messageservice.userservice.generated.ApiClient;
+import de.caritas.cob.messageservice.config.apiclient.ApiRequestHeaders;
 import java.util.Optional;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -27,13 +28,13 @@ public class LiveEventNotificationService {
    *
    * @param rcGroupId the rocket chat group id
    */
-  @Async
+  @Async(LIVE_EVENT_EXECUTOR)
   public void sendLiveEvent(String rcGroupId, String accessToken, Optional<Long> tenantId) {
     var liveProxyControllerApi = clientFactory.liveproxyControllerApi();
     if (isNotBlank(rcGroupId)) {
-      addDefaultHeaders(liveProxyControllerApi.getApiClient(), accessToken, tenantId);
+      var headers = serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(accessToken, tenantId);
       try {
-        liveProxyControllerApi.sendLiveEvent(rcGroupId);
+        ApiRequestHeaders.runWith(headers, () -> liveProxyControllerApi.sendLiveEvent(rcGroupId));
       } catch (RestClientException e) {
         LogService.logInternalServerError(
             String.format("Unable to trigger live event for rc group id %s", rcGroupId), e);
@@ -41,9 +42,4 @@ public class LiveEventNotificationService {
     }
   }
 
-  private void addDefaultHeaders(ApiClient apiClient, String accessToken, Optional<Long> tenantId) {
-    var headers = serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(accessToken, tenantId);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
-  }
-
 }
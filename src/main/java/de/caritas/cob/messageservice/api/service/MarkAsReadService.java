@@ -0,0 +1,81 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Marks Rocket.Chat groups as read for the system (message) user off the request path. Group IDs
+ * are collected until the next flush, so a group receiving several messages within the flush
+ * interval is marked as read only once. Failed calls are retried in the following flushes.
+ */
+@Service
+@RequiredArgsConstructor
+public class MarkAsReadService {
+
+  private final @NonNull RocketChatService rocketChatService;
+
+  /* pending group IDs with the number of failed attempts to mark them as read */
+  private final Map<String, Integer> pendingGroups = new ConcurrentHashMap<>();
+
+  @Value("${rocket.chat.mark.read.max.attempts}")
+  private int maxAttempts;
+
+  /**
+   * Schedules marking the specified Rocket.Chat group as read for the system (message) user.
+   *
+   * @param rcGroupId Rocket.Chat group ID
+   */
+  public void markGroupAsReadForSystemUser(String rcGroupId) {
+    pendingGroups.put(rcGroupId, 0);
+  }
+
+  /**
+   * Marks all pending groups as read. Groups which could not be marked as read are kept for the
+   * next flush, until the maximum number of attempts is reached.
+   */
+  @Scheduled(fixedDelayString = "${rocket.chat.mark.read.flush.interval.millis}")
+  public void flush() {
+    for (var rcGroupId : List.copyOf(pendingGroups.keySet())) {
+      var failedAttempts = pendingGroups.remove(rcGroupId);
+      if (isNull(failedAttempts)) {
+        continue;
+      }
+
+      try {
+        rocketChatService.markGroupAsReadForSystemUser(rcGroupId);
+      } catch (RuntimeException ex) {
+        retryLater(rcGroupId, failedAttempts + 1, ex);
+      }
+    }
+  }
+
+  private void retryLater(String rcGroupId, int failedAttempts, Exception exception) {
+    if (failedAttempts >= maxAttempts) {
+      LogService.logRocketChatServiceError(
+          String.format("Could not set messages as read for system user in group %s after %d "
+              + "attempts", rcGroupId, failedAttempts), exception);
+      return;
+    }
+
+    // a group scheduled again in the meantime starts over with its attempts
+    pendingGroups.merge(rcGroupId, failedAttempts, Math::min);
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+
+  int pendingGroupCount() {
+    return pendingGroups.size();
+  }
+}
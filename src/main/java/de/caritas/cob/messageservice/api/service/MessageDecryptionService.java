@@ -0,0 +1,136 @@
+package de.caritas.cob.messageservice.api.service;
+
+import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
+import de.caritas.cob.messageservice.config.ContextPropagatingTaskDecorator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service to decrypt the messages of a message stream page. Large pages can optionally be split
+ * into chunks which are decrypted in parallel on a bounded executor, keeping the message order.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageDecryptionService {
+
+  private static final String THREAD_NAME_PREFIX = "message-decryption-";
+
+  private final @NonNull EncryptionService encryptionService;
+
+  @Value("${message.decryption.parallel.enabled}")
+  private boolean parallelDecryptionEnabled;
+
+  @Value("${message.decryption.parallel.min.page.size}")
+  private int parallelDecryptionMinPageSize;
+
+  @Value("${message.decryption.parallel.pool.size}")
+  private int parallelDecryptionPoolSize;
+
+  @Value("${message.decryption.parallel.queue.capacity}")
+  private int parallelDecryptionQueueCapacity;
+
+  private ThreadPoolTaskExecutor decryptionExecutor;
+
+  @PostConstruct
+  void initializeExecutor() {
+    if (parallelDecryptionEnabled) {
+      decryptionExecutor = new ThreadPoolTaskExecutor();
+      decryptionExecutor.setCorePoolSize(parallelDecryptionPoolSize);
+      decryptionExecutor.setMaxPoolSize(parallelDecryptionPoolSize);
+      decryptionExecutor.setQueueCapacity(parallelDecryptionQueueCapacity);
+      decryptionExecutor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+      decryptionExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+      // a saturated pool makes the request thread decrypt the chunk itself
+      decryptionExecutor.setRejectedExecutionHandler(new CallerRunsPolicy());
+      decryptionExecutor.initialize();
+    }
+  }
+
+  @PreDestroy
+  void shutdownExecutor() {
+    if (decryptionExecutor != null) {
+      decryptionExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Returns whether a page of the given size is decrypted in parallel chunks.
+   *
+   * @param pageSize the number of messages of the page
+   * @return true if parallel decryption is enabled and applies to the page size
+   */
+  public boolean decryptsInParallel(int pageSize) {
+    return decryptionExecutor != null && pageSize >= parallelDecryptionMinPageSize;
+  }
+
+  /**
+   * Decrypts the given messages of a Rocket.Chat group. If parallel decryption is enabled and the
+   * page exceeds the configured size, the messages are decrypted in parallel chunks.
+   *
+   * @param messagesToDecrypt the messages to decrypt
+   * @param rcGroupId         the Rocket.Chat group ID
+   * @return the decrypted messages in the order of the given messages
+   * @throws CustomCryptoException if a message could not be decrypted
+   */
+  public List<String> decryptAll(List<String> messagesToDecrypt, String rcGroupId)
+      throws CustomCryptoException {
+    if (!decryptsInParallel(messagesToDecrypt.size())) {
+      return encryptionService.decryptAll(messagesToDecrypt, rcGroupId);
+    }
+
+    return decryptAllInParallel(messagesToDecrypt, rcGroupId);
+  }
+
+  private List<String> decryptAllInParallel(List<String> messagesToDecrypt, String rcGroupId)
+      throws CustomCryptoException {
+    var chunkSize = (messagesToDecrypt.size() + parallelDecryptionPoolSize - 1)
+        / parallelDecryptionPoolSize;
+    var decryptedChunks = new ArrayList<CompletableFuture<List<String>>>();
+
+    for (var from = 0; from < messagesToDecrypt.size(); from += chunkSize) {
+      var chunk = messagesToDecrypt.subList(from,
+          Math.min(from + chunkSize, messagesToDecrypt.size()));
+      decryptedChunks.add(CompletableFuture.supplyAsync(
+          () -> decryptChunk(chunk, rcGroupId), decryptionExecutor));
+    }
+
+    var decryptedMessages = new ArrayList<String>(messagesToDecrypt.size());
+    try {
+      decryptedChunks.forEach(decryptedChunk -> decryptedMessages.addAll(decryptedChunk.join()));
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof DecryptionFailedException) {
+        throw (CustomCryptoException) ex.getCause().getCause();
+      }
+      throw ex;
+    }
+
+    return decryptedMessages;
+  }
+
+  private List<String> decryptChunk(List<String> chunk, String rcGroupId) {
+    try {
+      return encryptionService.decryptAll(chunk, rcGroupId);
+    } catch (CustomCryptoException ex) {
+      throw new DecryptionFailedException(ex);
+    }
+  }
+
+  private static class DecryptionFailedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    DecryptionFailedException(CustomCryptoException cause) {
+      super(cause);
+    }
+  }
+}
@@ -27,6 +27,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -40,6 +41,11 @@ public class MessageMapper {
   // Using pseudorandom number generators (PRNGs) is security-sensitive
   private static final Random random = new Random();
 
+  private static final AliasJsonDeserializer ALIAS_DESERIALIZER =
+      new AliasJsonDeserializer(new UserHelper());
+
+  /* serialized aliases by message type, built once per type */
+  private final Map<MessageType, String> aliasStringsByType = new ConcurrentHashMap<>();
   private final ObjectMapper objectMapper;
   private final EncryptionService encryptionService;
 
@@ -63,18 +69,10 @@ public class MessageMapper {
     var messageType = (String) message.getOtherProperties().get("t");
 
     if (nonNull(messageType)) {
-      AliasMessageDTO alias = null;
       if (messageType.equalsIgnoreCase("user-muted")) {
-        alias = aliasMessageDtoOf(MessageType.USER_MUTED);
+        message.setAlias(aliasStringOf(MessageType.USER_MUTED));
       } else if (messageType.equalsIgnoreCase("user-unmuted")) {
-        alias = aliasMessageDtoOf(MessageType.USER_UNMUTED);
-      }
-      if (nonNull(alias)) {
-        try {
-          message.setAlias(objectMapper.writeValueAsString(alias));
-        } catch (JsonProcessingException e) {
-          throw new RuntimeException(e);
-        }
+        message.setAlias(aliasStringOf(MessageType.USER_UNMUTED));
       }
     }
 
@@ -98,14 +96,23 @@ public class MessageMapper {
     return alias;
   }
 
+  private String aliasStringOf(MessageType messageType) {
+    return aliasStringsByType.computeIfAbsent(messageType, type -> {
+      try {
+        return objectMapper.writeValueAsString(aliasMessageDtoOf(type));
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   public MessagesDTO messageDtoOf(Message message) {
     var messageDto = new MessagesDTO();
     messageDto.set_id(message.getId());
     messageDto.setMsg(message.getMsg());
     messageDto.setRid(message.getRid());
 
-    var aliasDeserializer = new AliasJsonDeserializer(new UserHelper());
-    var alias = aliasDeserializer.getAliasMessageDTO(message.getAlias());
+    var alias = ALIAS_DESERIALIZER.getAliasMessageDTO(message.getAlias());
     messageDto.setAlias(alias);
 
     var messagesDTO = objectMapper.convertValue(message.getOtherProperties(), MessagesDTO.class);
@@ -28,15 +28,19 @@ import de.caritas.cob.messageservice.api.service.dto.MessageResponse;
 import de.caritas.cob.messageservice.api.service.dto.StringifiedMessageResponse;
 import de.caritas.cob.messageservice.api.service.dto.UpdateMessage;
 import de.caritas.cob.messageservice.api.service.helper.RocketChatCredentialsHelper;
+import de.caritas.cob.messageservice.api.service.helper.RocketChatMessageCache;
+import de.caritas.cob.messageservice.config.CacheManagerConfig;
 import java.net.URI;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -101,12 +105,15 @@ public class RocketChatService {
 
   private final @NonNull RestTemplate restTemplate;
   private final @NonNull EncryptionService encryptionService;
+  private final @NonNull MessageDecryptionService messageDecryptionService;
   private final @NonNull RocketChatCredentialsHelper rcCredentialHelper;
+  private final @NonNull RocketChatMessageCache messageCache;
   private final MessageMapper mapper;
 
   /**
    * Gets the list of messages via Rocket.Chat API for the provided Rocket.Chat group. Filters out
-   * technical user messages, decrypts the messages and sets the {@link MessageType}.
+   * technical user messages, decrypts the messages and sets the {@link MessageType}. The messages
+   * of a page are decrypted together, in parallel chunks for large pages.
    *
    * @param rcToken   Rocket.Chat authentication token
    * @param rcUserId  Rocket.Chat user ID
@@ -118,11 +125,11 @@ public class RocketChatService {
     var uri = buildMessageStreamUri(rcGroupId, offset, count, since);
     var messageStream = obtainMessageStream(rcToken, rcUserId, uri);
 
-    messageStream.setMessages(Optional.ofNullable(messageStream.getMessages())
-        .orElseGet(Collections::emptyList)
-        .stream()
-        .map(msg -> decryptMessageAndSetMessageType(msg, rcGroupId))
-        .map(mapper::typedMessageOf)
+    var messages = Optional.ofNullable(messageStream.getMessages())
+        .orElseGet(Collections::emptyList);
+    decryptMessages(messages, rcGroupId);
+    messageStream.setMessages(messages.stream()
+        .map(this::typedMessageOf)
         .collect(Collectors.toList()));
 
     return messageStream;
@@ -160,8 +167,11 @@ public class RocketChatService {
     }
   }
 
-  private MessagesDTO decryptMessageAndSetMessageType(MessagesDTO msg, String rcGroupId) {
-    decryptMessage(msg, rcGroupId);
+  private MessagesDTO typedMessageOf(MessagesDTO msg) {
+    return mapper.typedMessageOf(setMessageType(msg));
+  }
+
+  private MessagesDTO setMessageType(MessagesDTO msg) {
     var alias = msg.getAlias();
     if (nonNull(alias)) {
       alias.setMessageType(mapper.messageTypeOf(alias));
@@ -170,9 +180,16 @@ public class RocketChatService {
     return msg;
   }
 
-  private void decryptMessage(MessagesDTO msg, String rcGroupId) {
+  private void decryptMessages(List<MessagesDTO> messages, String rcGroupId) {
+    var encryptedTexts = messages.stream()
+        .map(MessagesDTO::getMsg)
+        .collect(Collectors.toList());
+
     try {
-      msg.setMsg(encryptionService.decrypt(msg.getMsg(), rcGroupId));
+      var decryptedTexts = messageDecryptionService.decryptAll(encryptedTexts, rcGroupId);
+      for (var i = 0; i < messages.size(); i++) {
+        messages.get(i).setMsg(decryptedTexts.get(i));
+      }
     } catch (CustomCryptoException | NoMasterKeyException ex) {
       throw new InternalServerErrorException(ex, LogService::logEncryptionServiceError);
     }
@@ -270,6 +287,8 @@ public class RocketChatService {
     } catch (HttpClientErrorException exception) {
       log.error("Chat Update-Message failed.", exception);
       return false;
+    } finally {
+      messageCache.evict(message.getMsgId());
     }
   }
 
@@ -342,13 +361,17 @@ public class RocketChatService {
   }
 
   /**
-   * Returns detailed group information for the given Rocket.Chat group ID.
+   * Returns detailed group information for the given Rocket.Chat group ID. The information is
+   * cached per user and group, as Rocket.Chat group IDs are unique across tenants and the group
+   * name never changes. Keying by user leaves the authorization of every user's first lookup of a
+   * group to Rocket.Chat. Failed calls are not cached.
    *
    * @param rcToken   Rocket.Chat token
    * @param rcUserId  Rocket.Chat user ID
    * @param rcGroupId Rocket.Chatgroup ID
    * @return {@link GetGroupInfoDto}
    */
+  @Cacheable(cacheNames = CacheManagerConfig.ROOM_CACHE, key = "{#rcUserId, #rcGroupId}")
   public GetGroupInfoDto getGroupInfo(String rcToken, String rcUserId, String rcGroupId) {
 
     try {
@@ -370,7 +393,30 @@ public class RocketChatService {
     }
   }
 
+  /**
+   * Returns the given message as read by the given user. Messages are served from a short-lived
+   * cache if the user has read them before.
+   *
+   * @param rcToken   Rocket.Chat token
+   * @param rcUserId  Rocket.Chat user ID
+   * @param messageId Rocket.Chat message ID
+   * @return the {@link Message} or null if it does not exist
+   */
   public Message findMessage(String rcToken, String rcUserId, String messageId) {
+    var cachedMessage = messageCache.find(rcUserId, messageId);
+    if (cachedMessage.isPresent()) {
+      return cachedMessage.get();
+    }
+
+    var message = readMessage(rcToken, rcUserId, messageId);
+    if (nonNull(message)) {
+      messageCache.put(rcUserId, message);
+    }
+
+    return message;
+  }
+
+  private Message readMessage(String rcToken, String rcUserId, String messageId) {
     var url = baseUrl + ENDPOINT_MESSAGE_GET + messageId;
     var entity = new HttpEntity<>(getRocketChatHeader(rcToken, rcUserId));
 
@@ -401,6 +447,8 @@ public class RocketChatService {
     } catch (HttpClientErrorException exception) {
       log.error("Deleting message failed.", exception);
       return false;
+    } finally {
+      messageCache.evict(messageId);
     }
   }
 
@@ -1,11 +1,19 @@
 package de.caritas.cob.messageservice.api.service;
 
+import static java.util.Objects.isNull;
+
 import com.google.common.collect.Lists;
 import de.caritas.cob.messageservice.api.tenant.TenantContext;
+import de.caritas.cob.messageservice.config.CacheManagerConfig;
 import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
+import de.caritas.cob.messageservice.config.apiclient.ApiRequestHeaders;
 import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionListResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.SessionUserDTO;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
@@ -21,15 +29,51 @@ public class SessionService {
 
   public GroupSessionListResponseDTO findSessionBelongingToRcGroupId(String rcToken, String rcGroupId) {
     var userControllerApi = clientFactory.userControllerApi();
-    addDefaultHeaders(userControllerApi.getApiClient());
 
-    return userControllerApi.getSessionsForGroupOrFeedbackGroupIds(rcToken, Lists.newArrayList(rcGroupId));
+    return ApiRequestHeaders.callWith(headers(), () -> userControllerApi
+        .getSessionsForGroupOrFeedbackGroupIds(rcToken, Lists.newArrayList(rcGroupId)));
+  }
+
+  /**
+   * Returns the user ID of the adviceseeker of the session belonging to the given Rocket.Chat
+   * group. The result is cached per group, as Rocket.Chat group IDs are unique across tenants and
+   * the adviceseeker of a session does not change. A group without a session is not cached, so its
+   * adviceseeker is found as soon as the session exists.
+   *
+   * @param rcToken   Rocket.Chat token of the requesting user
+   * @param rcGroupId Rocket.Chat group ID
+   * @return the user ID of the adviceseeker, or null if the group belongs to no session
+   */
+  @Cacheable(cacheNames = CacheManagerConfig.SESSION_CACHE, key = "#rcGroupId",
+      unless = "#result == null")
+  public String findAdviceseekerUserId(String rcToken, String rcGroupId) {
+    var sessionList = findSessionBelongingToRcGroupId(rcToken, rcGroupId);
+    if (isNull(sessionList) || isNull(sessionList.getSessions())) {
+      return null;
+    }
+
+    return sessionList.getSessions().stream()
+        .findFirst()
+        .map(GroupSessionResponseDTO::getUser)
+        .map(SessionUserDTO::getId)
+        .orElse(null);
+  }
+
+  /**
+   * Removes the cached adviceseeker of the given Rocket.Chat group, so the next lookup asks the
+   * UserService again. The cache is local to the instance, so other instances keep their entry
+   * until it expires.
+   *
+   * @param rcGroupId Rocket.Chat group ID
+   */
+  @CacheEvict(cacheNames = CacheManagerConfig.SESSION_CACHE, key = "#rcGroupId")
+  public void evictAdviceseekerUserId(String rcGroupId) {
+    // the cache entry is removed by the annotation
   }
 
-  private void addDefaultHeaders(
-      de.caritas.cob.messageservice.userservice.generated.ApiClient apiClient) {
+  private HttpHeaders headers() {
     HttpHeaders headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers, TenantContext.getCurrentTenantOption());
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    return headers;
   }
 }
@@ -0,0 +1,148 @@
+package de.caritas.cob.messageservice.api.service.helper;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.Striped;
+import de.caritas.cob.messageservice.api.service.LogService;
+import de.caritas.cob.messageservice.api.service.dto.Message;
+import de.caritas.cob.messageservice.config.CacheManagerConfig;
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import javax.annotation.PostConstruct;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-lived cache of Rocket.Chat messages by message ID. A cached message is only returned to
+ * users who have read it from Rocket.Chat themselves, so Rocket.Chat stays in charge of the
+ * authorization. Messages are kept as the JSON received from Rocket.Chat, i.e. with their content
+ * still encrypted, and every read returns a new instance which can be decrypted and modified by
+ * the caller.
+ *
+ * <p>An evicted message is marked as evicted until the entry expires, so a read from Rocket.Chat
+ * which started before the message was changed cannot cache the previous content again. Changes
+ * of an entry are serialized per message ID, so concurrent reads of different users are merged.
+ *
+ * <p>The cache is local to the instance and so are its evictions. Another instance may still
+ * return the previous content of an updated or deleted message until its entry expires, so the
+ * time to live of the cache is kept short.
+ */
+@Component
+@RequiredArgsConstructor
+public class RocketChatMessageCache {
+
+  private final @NonNull CacheManager cacheManager;
+  private final @NonNull ObjectMapper objectMapper;
+
+  /* serializes the changes of an entry per message ID */
+  private final Striped<Lock> messageLocks = Striped.lock(64);
+
+  private Cache cache;
+
+  @PostConstruct
+  void initialize() {
+    cache = cacheManager.getCache(CacheManagerConfig.MESSAGE_CACHE);
+  }
+
+  /**
+   * Returns the cached message if the given user has read it before.
+   *
+   * @param rcUserId  Rocket.Chat user ID
+   * @param messageId Rocket.Chat message ID
+   * @return an {@link Optional} of a new instance of the cached message
+   */
+  public Optional<Message> find(String rcUserId, String messageId) {
+    var cachedMessage = cache.get(messageId, CachedMessage.class);
+    if (isNull(cachedMessage) || cachedMessage.isEvicted()
+        || !cachedMessage.authorizedUserIds.contains(rcUserId)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(objectMapper.readValue(cachedMessage.json, Message.class));
+    } catch (JsonProcessingException ex) {
+      LogService.logWarning(ex);
+      evict(messageId);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Caches the message as read by the given user from Rocket.Chat, unless it has been evicted
+   * meanwhile.
+   *
+   * @param rcUserId Rocket.Chat user ID
+   * @param message  the message as received from Rocket.Chat
+   */
+  public void put(String rcUserId, Message message) {
+    String json;
+    try {
+      json = objectMapper.writeValueAsString(message);
+    } catch (JsonProcessingException ex) {
+      LogService.logWarning(ex);
+      return;
+    }
+
+    var lock = messageLocks.get(message.getId());
+    lock.lock();
+    try {
+      var authorizedUserIds = new HashSet<String>();
+      var cachedMessage = cache.get(message.getId(), CachedMessage.class);
+      if (nonNull(cachedMessage)) {
+        if (cachedMessage.isEvicted()) {
+          return;
+        }
+        authorizedUserIds.addAll(cachedMessage.authorizedUserIds);
+      }
+      authorizedUserIds.add(rcUserId);
+      cache.put(message.getId(), new CachedMessage(json, Set.copyOf(authorizedUserIds)));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the message for all users, e.g. after it has been updated or deleted. The message is
+   * not cached again until the entry expires.
+   *
+   * @param messageId Rocket.Chat message ID
+   */
+  public void evict(String messageId) {
+    var lock = messageLocks.get(messageId);
+    lock.lock();
+    try {
+      cache.put(messageId, CachedMessage.EVICTED);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static final class CachedMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final CachedMessage EVICTED = new CachedMessage(null, Set.of());
+
+    /* the message as received from Rocket.Chat, null if the message has been evicted */
+    private final String json;
+    private final Set<String> authorizedUserIds;
+
+    private CachedMessage(String json, Set<String> authorizedUserIds) {
+      this.json = json;
+      this.authorizedUserIds = authorizedUserIds;
+    }
+
+    private boolean isEvicted() {
+      return isNull(json);
+    }
+  }
+}
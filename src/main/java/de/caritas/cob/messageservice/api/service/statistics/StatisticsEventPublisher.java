@@ -0,0 +1,196 @@
+package de.caritas.cob.messageservice.api.service.statistics;
+
+import de.caritas.cob.messageservice.api.service.LogService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory.ConfirmType;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes statistics messages to RabbitMQ in batches. Messages are collected in a bounded queue
+ * and sent on a single channel per batch, waiting once for the publisher confirms of the whole
+ * batch. If the queue is full, the caller waits up to the configured offer timeout before the
+ * message is dropped.
+ *
+ * <p>Publisher confirms are only enabled on a connection of its own, so other users of the
+ * application's connection factory are not affected. A batch which could not be published is
+ * retried with the next flushes and dropped after the configured number of attempts. A retried
+ * batch may be delivered twice if only its confirms got lost.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatisticsEventPublisher {
+
+  private static final String METRIC_PREFIX = "statistics.publisher.";
+
+  private final @NonNull CachingConnectionFactory connectionFactory;
+  private final @NonNull MeterRegistry meterRegistry;
+
+  @Value("${statistics.rabbitmq.exchange.name}")
+  private String rabbitMqExchangeName;
+
+  @Value("${statistics.publisher.queue.capacity}")
+  private int queueCapacity;
+
+  @Value("${statistics.publisher.batch.size}")
+  private int batchSize;
+
+  @Value("${statistics.publisher.offer.timeout.millis}")
+  private long offerTimeoutMillis;
+
+  @Value("${statistics.publisher.confirm.timeout.millis}")
+  private long confirmTimeoutMillis;
+
+  @Value("${statistics.publisher.max.attempts}")
+  private int maxAttempts;
+
+  /* the batch which could not be published, retried before any queued message */
+  private List<RoutedMessage> failedBatch = List.of();
+  private int failedAttempts;
+
+  private CachingConnectionFactory confirmingConnectionFactory;
+  private RabbitTemplate rabbitTemplate;
+  private BlockingQueue<RoutedMessage> queue;
+  private Counter publishedMessages;
+  private Counter failedMessages;
+  private Counter droppedMessages;
+  private DistributionSummary batchSizes;
+  private Timer publishLatency;
+
+  @PostConstruct
+  void initialize() {
+    confirmingConnectionFactory = new CachingConnectionFactory(
+        connectionFactory.getRabbitConnectionFactory());
+    confirmingConnectionFactory.setPublisherConfirmType(ConfirmType.SIMPLE);
+    rabbitTemplate = new RabbitTemplate(confirmingConnectionFactory);
+    queue = new ArrayBlockingQueue<>(queueCapacity);
+    Gauge.builder(METRIC_PREFIX + "queue.size", queue, Collection::size)
+        .description("Statistics messages waiting to be published")
+        .register(meterRegistry);
+    publishedMessages = meterRegistry.counter(METRIC_PREFIX + "messages", "result", "published");
+    failedMessages = meterRegistry.counter(METRIC_PREFIX + "messages", "result", "failed");
+    droppedMessages = meterRegistry.counter(METRIC_PREFIX + "messages", "result", "dropped");
+    batchSizes = DistributionSummary.builder(METRIC_PREFIX + "batch.size")
+        .description("Statistics messages published per batch")
+        .register(meterRegistry);
+    publishLatency = Timer.builder(METRIC_PREFIX + "publish.latency")
+        .description("Time to publish and confirm a batch of statistics messages")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Queues the message for the next batch.
+   *
+   * @param routingKey the routing key of the message
+   * @param message    the message
+   */
+  public void publish(String routingKey, Message message) {
+    try {
+      if (queue.offer(new RoutedMessage(routingKey, message), offerTimeoutMillis,
+          TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+
+    droppedMessages.increment();
+    LogService.logStatisticsEventWarning(String.format(
+        "Statistics queue is full, dropped statistics message with routing key %s", routingKey));
+  }
+
+  /**
+   * Publishes all queued messages in batches of the configured size. A failed batch stops the
+   * flush, so the queued messages wait for the next flush instead of failing as well.
+   */
+  @Scheduled(fixedDelayString = "${statistics.publisher.flush.interval.millis}")
+  public synchronized void flush() {
+    if (!failedBatch.isEmpty() && !publishBatch(failedBatch)) {
+      return;
+    }
+
+    var batch = new ArrayList<RoutedMessage>(batchSize);
+    while (queue.drainTo(batch, batchSize) > 0) {
+      if (!publishBatch(batch)) {
+        return;
+      }
+      batch = new ArrayList<>(batchSize);
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+    confirmingConnectionFactory.destroy();
+  }
+
+  private boolean publishBatch(List<RoutedMessage> batch) {
+    var sample = Timer.start(meterRegistry);
+
+    try {
+      rabbitTemplate.invoke(operations -> {
+        batch.forEach(routedMessage -> operations.send(rabbitMqExchangeName,
+            routedMessage.routingKey, routedMessage.message));
+        operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+        return null;
+      });
+      publishedMessages.increment(batch.size());
+      failedBatch = List.of();
+      return true;
+    } catch (AmqpException ex) {
+      retryLater(batch, ex);
+      return false;
+    } finally {
+      sample.stop(publishLatency);
+      batchSizes.record(batch.size());
+    }
+  }
+
+  private void retryLater(List<RoutedMessage> batch, AmqpException exception) {
+    if (batch != failedBatch) {
+      failedBatch = batch;
+      failedAttempts = 0;
+    }
+
+    if (++failedAttempts < maxAttempts) {
+      LogService.logStatisticsEventWarning(String.format(
+          "Batch of %d statistics messages could not be published, retrying with the next flush",
+          batch.size()));
+      return;
+    }
+
+    failedMessages.increment(batch.size());
+    failedBatch = List.of();
+    LogService.logStatisticsEventError(exception);
+  }
+
+  private static final class RoutedMessage {
+
+    private final String routingKey;
+    private final Message message;
+
+    private RoutedMessage(String routingKey, Message message) {
+      this.routingKey = routingKey;
+      this.message = message;
+    }
+  }
+}
@@ -1,11 +1,12 @@
 package de.caritas.cob.messageservice.api.service.statistics;
 
+import static de.caritas.cob.messageservice.config.AsyncConfig.STATISTICS_EXECUTOR;
+
 import de.caritas.cob.messageservice.api.service.LogService;
 import de.caritas.cob.messageservice.api.service.statistics.event.StatisticsEvent;
 import java.nio.charset.StandardCharsets;
 import javax.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.core.AmqpTemplate;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,20 +18,19 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class StatisticsService {
 
-  private final @NotNull AmqpTemplate amqpTemplate;
+  private final @NotNull StatisticsEventPublisher statisticsEventPublisher;
 
   @Value("${statistics.enabled}")
   private boolean statisticsEnabled;
 
-  @Value("${statistics.rabbitmq.exchange.name}")
-  private String rabbitMqExchangeName;
-
   /**
-   * Entry point to write statistics event data to the statistics queue.
+   * Entry point to write statistics event data to the statistics queue. The payload is built off
+   * the request thread and the message is published with the next batch of the
+   * {@link StatisticsEventPublisher}.
    *
    * @param statisticsEvent the concrete {@link StatisticsEvent}
    */
-  @Async
+  @Async(STATISTICS_EXECUTOR)
   public void fireEvent(StatisticsEvent statisticsEvent) {
 
     if (statisticsEnabled) {
@@ -38,8 +38,7 @@ public class StatisticsService {
           .getPayload()
           .ifPresentOrElse(
               payload ->
-                  amqpTemplate.convertAndSend(
-                      rabbitMqExchangeName,
+                  statisticsEventPublisher.publish(
                       statisticsEvent.getEventType().toString(),
                       MessageBuilder.withBody(payload.getBytes(StandardCharsets.UTF_8))
                           .setContentType(MessageProperties.CONTENT_TYPE_JSON)
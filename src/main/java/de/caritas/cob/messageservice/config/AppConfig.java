@@ -1,12 +1,10 @@
 package de.caritas.cob.messageservice.config;
 
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
-import org.springframework.web.client.RestTemplate;
 
 /**
  * Contains some general spring boot application configurations
@@ -28,10 +26,4 @@ public class AppConfig {
     validatorFactoryBean.setValidationMessageSource(messageSource);
     return validatorFactoryBean;
   }
-
-  // RestTemplate Bean
-  @Bean
-  public RestTemplate restTemplate(RestTemplateBuilder builder) {
-    return builder.build();
-  }
 }
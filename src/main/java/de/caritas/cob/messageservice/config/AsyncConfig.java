@@ -0,0 +1,102 @@
+package de.caritas.cob.messageservice.config;
+
+import de.caritas.cob.messageservice.api.service.LogService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executors for the asynchronous notification and statistics paths. Each concern gets its own
+ * bounded pool, so a slow downstream service only backs up the tasks addressing it.
+ */
+@Configuration
+public class AsyncConfig {
+
+  public static final String EMAIL_NOTIFICATION_EXECUTOR = "emailNotificationExecutor";
+  public static final String LIVE_EVENT_EXECUTOR = "liveEventExecutor";
+  public static final String STATISTICS_EXECUTOR = "statisticsExecutor";
+
+  private static final int AWAIT_TERMINATION_SECONDS = 10;
+
+  @Value("${notification.email.executor.core.pool.size}")
+  private int emailCorePoolSize;
+
+  @Value("${notification.email.executor.max.pool.size}")
+  private int emailMaxPoolSize;
+
+  @Value("${notification.email.executor.queue.capacity}")
+  private int emailQueueCapacity;
+
+  @Value("${notification.liveevent.executor.core.pool.size}")
+  private int liveEventCorePoolSize;
+
+  @Value("${notification.liveevent.executor.max.pool.size}")
+  private int liveEventMaxPoolSize;
+
+  @Value("${notification.liveevent.executor.queue.capacity}")
+  private int liveEventQueueCapacity;
+
+  @Value("${statistics.executor.core.pool.size}")
+  private int statisticsCorePoolSize;
+
+  @Value("${statistics.executor.max.pool.size}")
+  private int statisticsMaxPoolSize;
+
+  @Value("${statistics.executor.queue.capacity}")
+  private int statisticsQueueCapacity;
+
+  /**
+   * Executor for email notifications. Emails must not get lost, so a full queue makes the
+   * submitting thread send the notification itself.
+   *
+   * @return the email notification executor
+   */
+  @Bean(EMAIL_NOTIFICATION_EXECUTOR)
+  public ThreadPoolTaskExecutor emailNotificationExecutor() {
+    return buildExecutor("email-notification-", emailCorePoolSize, emailMaxPoolSize,
+        emailQueueCapacity, new CallerRunsPolicy());
+  }
+
+  /**
+   * Executor for live events. A live event only triggers the clients to refresh, so it is dropped
+   * if the queue is full.
+   *
+   * @return the live event executor
+   */
+  @Bean(LIVE_EVENT_EXECUTOR)
+  public ThreadPoolTaskExecutor liveEventExecutor() {
+    return buildExecutor("live-event-", liveEventCorePoolSize, liveEventMaxPoolSize,
+        liveEventQueueCapacity, (runnable, executor) -> LogService.logWarning(
+            "Live event queue is full, dropped live event"));
+  }
+
+  /**
+   * Executor for statistics events. Statistics are not worth slowing down a request, so an event is
+   * dropped if the queue is full.
+   *
+   * @return the statistics executor
+   */
+  @Bean(STATISTICS_EXECUTOR)
+  public ThreadPoolTaskExecutor statisticsExecutor() {
+    return buildExecutor("statistics-", statisticsCorePoolSize, statisticsMaxPoolSize,
+        statisticsQueueCapacity, (runnable, executor) -> LogService.logStatisticsEventWarning(
+            "Statistics queue is full, dropped statistics event"));
+  }
+
+  private ThreadPoolTaskExecutor buildExecutor(String threadNamePrefix, int corePoolSize,
+      int maxPoolSize, int queueCapacity, RejectedExecutionHandler rejectedExecutionHandler) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(corePoolSize);
+    executor.setMaxPoolSize(maxPoolSize);
+    executor.setQueueCapacity(queueCapacity);
+    executor.setThreadNamePrefix(threadNamePrefix);
+    executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+    return executor;
+  }
+}
@@ -13,6 +13,9 @@ import org.springframework.context.annotation.Configuration;
 public class CacheManagerConfig {
 
   public static final String TENANT_CACHE = "tenantCache";
+  public static final String ROOM_CACHE = "roomCache";
+  public static final String SESSION_CACHE = "sessionCache";
+  public static final String MESSAGE_CACHE = "messageCache";
 
   @Value("${cache.tenant.configuration.maxEntriesLocalHeap}")
   private long tenantMaxEntriesLocalHeap;
@@ -26,6 +29,42 @@ public class CacheManagerConfig {
   @Value("${cache.tenant.configuration.timeToLiveSeconds}")
   private long tenantTimeToLiveSeconds;
 
+  @Value("${cache.room.configuration.maxEntriesLocalHeap}")
+  private long roomMaxEntriesLocalHeap;
+
+  @Value("${cache.room.configuration.eternal}")
+  private boolean roomEternal;
+
+  @Value("${cache.room.configuration.timeToIdleSeconds}")
+  private long roomTimeToIdleSeconds;
+
+  @Value("${cache.room.configuration.timeToLiveSeconds}")
+  private long roomTimeToLiveSeconds;
+
+  @Value("${cache.session.configuration.maxEntriesLocalHeap}")
+  private long sessionMaxEntriesLocalHeap;
+
+  @Value("${cache.session.configuration.eternal}")
+  private boolean sessionEternal;
+
+  @Value("${cache.session.configuration.timeToIdleSeconds}")
+  private long sessionTimeToIdleSeconds;
+
+  @Value("${cache.session.configuration.timeToLiveSeconds}")
+  private long sessionTimeToLiveSeconds;
+
+  @Value("${cache.message.configuration.maxEntriesLocalHeap}")
+  private long messageMaxEntriesLocalHeap;
+
+  @Value("${cache.message.configuration.eternal}")
+  private boolean messageEternal;
+
+  @Value("${cache.message.configuration.timeToIdleSeconds}")
+  private long messageTimeToIdleSeconds;
+
+  @Value("${cache.message.configuration.timeToLiveSeconds}")
+  private long messageTimeToLiveSeconds;
+
   @Bean
   public CacheManager cacheManager() {
     return new EhCacheCacheManager(ehCacheManager());
@@ -35,6 +74,9 @@ public class CacheManagerConfig {
   public net.sf.ehcache.CacheManager ehCacheManager() {
     var config = new net.sf.ehcache.config.Configuration();
     config.addCache(buildTenantCacheConfiguration());
+    config.addCache(buildRoomCacheConfiguration());
+    config.addCache(buildSessionCacheConfiguration());
+    config.addCache(buildMessageCacheConfiguration());
 
     return net.sf.ehcache.CacheManager.newInstance(config);
   }
@@ -50,5 +92,35 @@ public class CacheManagerConfig {
     return tenantCacheConfiguration;
   }
 
+  private CacheConfiguration buildRoomCacheConfiguration() {
+    var roomCacheConfiguration = new CacheConfiguration();
+    roomCacheConfiguration.setName(ROOM_CACHE);
+    roomCacheConfiguration.setMaxEntriesLocalHeap(roomMaxEntriesLocalHeap);
+    roomCacheConfiguration.setEternal(roomEternal);
+    roomCacheConfiguration.setTimeToIdleSeconds(roomTimeToIdleSeconds);
+    roomCacheConfiguration.setTimeToLiveSeconds(roomTimeToLiveSeconds);
+    return roomCacheConfiguration;
+  }
+
+  private CacheConfiguration buildSessionCacheConfiguration() {
+    var sessionCacheConfiguration = new CacheConfiguration();
+    sessionCacheConfiguration.setName(SESSION_CACHE);
+    sessionCacheConfiguration.setMaxEntriesLocalHeap(sessionMaxEntriesLocalHeap);
+    sessionCacheConfiguration.setEternal(sessionEternal);
+    sessionCacheConfiguration.setTimeToIdleSeconds(sessionTimeToIdleSeconds);
+    sessionCacheConfiguration.setTimeToLiveSeconds(sessionTimeToLiveSeconds);
+    return sessionCacheConfiguration;
+  }
+
+  private CacheConfiguration buildMessageCacheConfiguration() {
+    var messageCacheConfiguration = new CacheConfiguration();
+    messageCacheConfiguration.setName(MESSAGE_CACHE);
+    messageCacheConfiguration.setMaxEntriesLocalHeap(messageMaxEntriesLocalHeap);
+    messageCacheConfiguration.setEternal(messageEternal);
+    messageCacheConfiguration.setTimeToIdleSeconds(messageTimeToIdleSeconds);
+    messageCacheConfiguration.setTimeToLiveSeconds(messageTimeToLiveSeconds);
+    return messageCacheConfiguration;
+  }
+
 
 }
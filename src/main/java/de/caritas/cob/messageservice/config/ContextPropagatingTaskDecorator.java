@@ -0,0 +1,50 @@
+package de.caritas.cob.messageservice.config;
+
+import de.caritas.cob.messageservice.api.tenant.TenantContext;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * Carries the tenant and the logging context of the submitting thread over to the thread executing
+ * the task and cleans them up afterwards. The request attributes are deliberately not carried
+ * over, as the task may outlive the request, so request specific values like the access token
+ * have to be passed to the task explicitly.
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    var tenantId = TenantContext.getCurrentTenant();
+    var mdcContext = MDC.getCopyOfContextMap();
+
+    return () -> {
+      var previousTenantId = TenantContext.getCurrentTenant();
+      var previousMdcContext = MDC.getCopyOfContextMap();
+      try {
+        setTenantContext(tenantId);
+        setMdcContext(mdcContext);
+        runnable.run();
+      } finally {
+        setTenantContext(previousTenantId);
+        setMdcContext(previousMdcContext);
+      }
+    };
+  }
+
+  private void setTenantContext(Long tenantId) {
+    if (tenantId == null) {
+      TenantContext.clear();
+    } else {
+      TenantContext.setCurrentTenant(tenantId);
+    }
+  }
+
+  private void setMdcContext(Map<String, String> mdcContext) {
+    if (mdcContext == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(mdcContext);
+    }
+  }
+}
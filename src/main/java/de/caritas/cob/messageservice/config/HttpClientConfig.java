@@ -0,0 +1,159 @@
+package de.caritas.cob.messageservice.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Configures the pooled http clients for the calls to Rocket.Chat, the user service and the tenant
+ * service. Each service gets its own connection pool, so that a slow service cannot use up the
+ * connections of the others. The pool statistics are bound to the actuator meter registry.
+ */
+@Configuration
+public class HttpClientConfig {
+
+  public static final String USER_SERVICE_REST_TEMPLATE = "userServiceRestTemplate";
+  public static final String TENANT_SERVICE_REST_TEMPLATE = "tenantServiceRestTemplate";
+
+  private static final String ROCKET_CHAT_POOL = "rocketChatConnectionManager";
+  private static final String USER_SERVICE_POOL = "userServiceConnectionManager";
+  private static final String TENANT_SERVICE_POOL = "tenantServiceConnectionManager";
+
+  @Value("${http.client.keep.alive.millis}")
+  private long keepAliveMillis;
+
+  @Value("${http.client.validate.after.inactivity.millis}")
+  private int validateAfterInactivityMillis;
+
+  @Value("${http.client.connection.request.timeout.millis}")
+  private int connectionRequestTimeoutMillis;
+
+  /**
+   * The {@link RestTemplate} for Rocket.Chat. It is the primary one, as most calls of this service
+   * go to Rocket.Chat.
+   *
+   * @param builder           the {@link RestTemplateBuilder} with the message converters and
+   *                          metrics customizers of spring boot
+   * @param connectionManager the Rocket.Chat connection pool
+   * @param connectTimeout    the connect timeout in milliseconds
+   * @param readTimeout       the read timeout in milliseconds
+   * @return the {@link RestTemplate}
+   */
+  @Bean
+  @Primary
+  public RestTemplate restTemplate(RestTemplateBuilder builder,
+      @Qualifier(ROCKET_CHAT_POOL) PoolingHttpClientConnectionManager connectionManager,
+      @Value("${http.client.rocketchat.connect.timeout.millis}") int connectTimeout,
+      @Value("${http.client.rocketchat.read.timeout.millis}") int readTimeout) {
+    return buildRestTemplate(builder, connectionManager, connectTimeout, readTimeout);
+  }
+
+  @Bean(USER_SERVICE_REST_TEMPLATE)
+  public RestTemplate userServiceRestTemplate(RestTemplateBuilder builder,
+      @Qualifier(USER_SERVICE_POOL) PoolingHttpClientConnectionManager connectionManager,
+      @Value("${http.client.userservice.connect.timeout.millis}") int connectTimeout,
+      @Value("${http.client.userservice.read.timeout.millis}") int readTimeout) {
+    return buildRestTemplate(builder, connectionManager, connectTimeout, readTimeout);
+  }
+
+  @Bean(TENANT_SERVICE_REST_TEMPLATE)
+  public RestTemplate tenantServiceRestTemplate(RestTemplateBuilder builder,
+      @Qualifier(TENANT_SERVICE_POOL) PoolingHttpClientConnectionManager connectionManager,
+      @Value("${http.client.tenantservice.connect.timeout.millis}") int connectTimeout,
+      @Value("${http.client.tenantservice.read.timeout.millis}") int readTimeout) {
+    return buildRestTemplate(builder, connectionManager, connectTimeout, readTimeout);
+  }
+
+  @Bean(name = ROCKET_CHAT_POOL, destroyMethod = "shutdown")
+  public PoolingHttpClientConnectionManager rocketChatConnectionManager(
+      @Value("${http.client.rocketchat.max.connections}") int maxConnections,
+      @Value("${http.client.rocketchat.max.connections.per.route}") int maxConnectionsPerRoute) {
+    return buildConnectionManager(maxConnections, maxConnectionsPerRoute);
+  }
+
+  @Bean(name = USER_SERVICE_POOL, destroyMethod = "shutdown")
+  public PoolingHttpClientConnectionManager userServiceConnectionManager(
+      @Value("${http.client.userservice.max.connections}") int maxConnections,
+      @Value("${http.client.userservice.max.connections.per.route}") int maxConnectionsPerRoute) {
+    return buildConnectionManager(maxConnections, maxConnectionsPerRoute);
+  }
+
+  @Bean(name = TENANT_SERVICE_POOL, destroyMethod = "shutdown")
+  public PoolingHttpClientConnectionManager tenantServiceConnectionManager(
+      @Value("${http.client.tenantservice.max.connections}") int maxConnections,
+      @Value("${http.client.tenantservice.max.connections.per.route}") int maxConnectionsPerRoute) {
+    return buildConnectionManager(maxConnections, maxConnectionsPerRoute);
+  }
+
+  @Bean
+  public MeterBinder rocketChatConnectionPoolMetrics(
+      @Qualifier(ROCKET_CHAT_POOL) PoolingHttpClientConnectionManager connectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "rocketchat");
+  }
+
+  @Bean
+  public MeterBinder userServiceConnectionPoolMetrics(
+      @Qualifier(USER_SERVICE_POOL) PoolingHttpClientConnectionManager connectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "userservice");
+  }
+
+  @Bean
+  public MeterBinder tenantServiceConnectionPoolMetrics(
+      @Qualifier(TENANT_SERVICE_POOL) PoolingHttpClientConnectionManager connectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager,
+        "tenantservice");
+  }
+
+  private PoolingHttpClientConnectionManager buildConnectionManager(int maxConnections,
+      int maxConnectionsPerRoute) {
+    var connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnections);
+    connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+    connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+    return connectionManager;
+  }
+
+  private RestTemplate buildRestTemplate(RestTemplateBuilder builder,
+      PoolingHttpClientConnectionManager connectionManager, int connectTimeout, int readTimeout) {
+    var requestConfig = RequestConfig.custom()
+        .setConnectTimeout(connectTimeout)
+        .setSocketTimeout(readTimeout)
+        .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+        .build();
+    var httpClient = HttpClientBuilder.create()
+        .setConnectionManager(connectionManager)
+        .setConnectionManagerShared(true)
+        .setKeepAliveStrategy(keepAliveStrategy())
+        .setDefaultRequestConfig(requestConfig)
+        .useSystemProperties()
+        .build();
+
+    return builder
+        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+        .build();
+  }
+
+  /**
+   * Keeps idle connections at most {@link #keepAliveMillis}, or shorter if the server announces a
+   * shorter keep-alive timeout.
+   */
+  ConnectionKeepAliveStrategy keepAliveStrategy() {
+    return (response, context) -> {
+      var serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+          .getKeepAliveDuration(response, context);
+      return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+    };
+  }
+}
@@ -1,31 +1,36 @@
 package de.caritas.cob.messageservice.config.apiclient;
 
-import de.caritas.cob.messageservice.userservice.generated.ApiClient;
+import static de.caritas.cob.messageservice.config.HttpClientConfig.USER_SERVICE_REST_TEMPLATE;
+
 import de.caritas.cob.messageservice.userservice.generated.web.LiveproxyControllerApi;
 import de.caritas.cob.messageservice.userservice.generated.web.UserControllerApi;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Provides the UserService API controllers. The controllers and their API client are created once
+ * and shared, request specific headers are passed per call via {@link ApiRequestHeaders}.
+ */
 @Component
-@RequiredArgsConstructor
 public class ApiControllerFactory {
 
-  private final RestTemplate restTemplate;
-
-  @Value("${user.service.api.liveproxy.url}")
-  private String userServiceBasePath;
+  private final UserControllerApi userControllerApi;
+  private final LiveproxyControllerApi liveproxyControllerApi;
 
-  public UserControllerApi userControllerApi() {
+  public ApiControllerFactory(@Qualifier(USER_SERVICE_REST_TEMPLATE) RestTemplate restTemplate,
+      @Value("${user.service.api.liveproxy.url}") String userServiceBasePath) {
     var apiClient = new UserApiClient(restTemplate).setBasePath(userServiceBasePath);
+    this.userControllerApi = new UserControllerApi(apiClient);
+    this.liveproxyControllerApi = new LiveproxyControllerApi(apiClient);
+  }
 
-    return new UserControllerApi(apiClient);
+  public UserControllerApi userControllerApi() {
+    return userControllerApi;
   }
 
   public LiveproxyControllerApi liveproxyControllerApi() {
-    var apiClient = new ApiClient(restTemplate).setBasePath(userServiceBasePath);
-
-    return new LiveproxyControllerApi(apiClient);
+    return liveproxyControllerApi;
   }
 }
@@ -0,0 +1,62 @@
+package de.caritas.cob.messageservice.config.apiclient;
+
+import static java.util.Objects.nonNull;
+
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Per-call headers for the shared API clients. The clients are long-lived and used by several
+ * threads at once, so request specific headers (authorization, CSRF, tenant) must not be set as
+ * their default headers. Instead, the headers are bound to the calling thread for the duration of
+ * the call and added to each request sent by the API clients on that thread.
+ */
+public final class ApiRequestHeaders {
+
+  private static final ThreadLocal<HttpHeaders> HEADERS = new ThreadLocal<>();
+
+  private ApiRequestHeaders() {
+  }
+
+  /**
+   * Runs the given call with the given headers added to its API requests.
+   *
+   * @param headers the headers to add
+   * @param call    the call using the API clients
+   */
+  public static void runWith(HttpHeaders headers, Runnable call) {
+    callWith(headers, () -> {
+      call.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the given call with the given headers added to its API requests.
+   *
+   * @param headers the headers to add
+   * @param call    the call using the API clients
+   * @param <T>     the result type of the call
+   * @return the result of the call
+   */
+  public static <T> T callWith(HttpHeaders headers, Supplier<T> call) {
+    var previousHeaders = HEADERS.get();
+    HEADERS.set(headers);
+    try {
+      return call.get();
+    } finally {
+      if (nonNull(previousHeaders)) {
+        HEADERS.set(previousHeaders);
+      } else {
+        HEADERS.remove();
+      }
+    }
+  }
+
+  static void addTo(HttpHeaders headerParams) {
+    var headers = HEADERS.get();
+    if (nonNull(headers)) {
+      headers.forEach((key, values) -> values.forEach(value -> headerParams.add(key, value)));
+    }
+  }
+}
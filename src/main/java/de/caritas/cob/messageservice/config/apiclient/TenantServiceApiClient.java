@@ -10,9 +10,16 @@ import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import javax.ws.rs.InternalServerErrorException;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
@@ -26,6 +33,21 @@ public class TenantServiceApiClient extends ApiClient {
     super(restTemplate);
   }
 
+  /**
+   * Adds the headers bound by {@link ApiRequestHeaders} to the request, as the client is shared
+   * and must not carry request specific default headers.
+   */
+  @Override
+  public <T> ResponseEntity<T> invokeAPI(String path, HttpMethod method,
+      MultiValueMap<String, String> queryParams, Object body, HttpHeaders headerParams,
+      MultiValueMap<String, String> cookieParams, MultiValueMap<String, Object> formParams,
+      List<MediaType> accept, MediaType contentType, String[] authNames,
+      ParameterizedTypeReference<T> returnType) throws RestClientException {
+    ApiRequestHeaders.addTo(headerParams);
+    return super.invokeAPI(path, method, queryParams, body, headerParams, cookieParams,
+        formParams, accept, contentType, authNames, returnType);
+  }
+
   /**
    * Changes the behavior of mapping multiple parameter values to exclude null values for objects
    * which are not {@link Collection} for filter query params.
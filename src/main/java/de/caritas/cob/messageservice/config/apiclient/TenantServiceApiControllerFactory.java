@@ -1,6 +1,8 @@
 package de.caritas.cob.messageservice.config.apiclient;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import static de.caritas.cob.messageservice.config.HttpClientConfig.TENANT_SERVICE_REST_TEMPLATE;
+
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -9,13 +11,16 @@ import de.caritas.cob.messageservice.tenantservice.generated.web.TenantControlle
 @Component
 public class TenantServiceApiControllerFactory {
 
-  @Value("${tenant.service.api.url}")
-  private String tenantServiceApiUrl;
+  private final TenantControllerApi tenantControllerApi;
 
-  @Autowired private RestTemplate restTemplate;
+  public TenantServiceApiControllerFactory(
+      @Qualifier(TENANT_SERVICE_REST_TEMPLATE) RestTemplate restTemplate,
+      @Value("${tenant.service.api.url}") String tenantServiceApiUrl) {
+    var apiClient = new TenantServiceApiClient(restTemplate).setBasePath(tenantServiceApiUrl);
+    this.tenantControllerApi = new TenantControllerApi(apiClient);
+  }
 
   public TenantControllerApi createControllerApi() {
-    var apiClient = new TenantServiceApiClient(restTemplate).setBasePath(this.tenantServiceApiUrl);
-    return new TenantControllerApi(apiClient);
+    return tenantControllerApi;
   }
 }
@@ -0,0 +1,2 @@
+ALTER TABLE `messageservice`.`draftmessage`
+DROP INDEX `draftmessage_user_id_rc_group_id`
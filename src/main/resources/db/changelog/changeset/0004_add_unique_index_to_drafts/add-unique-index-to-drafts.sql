@@ -0,0 +1,8 @@
+-- keep only the latest draft per user and group before adding the unique index
+DELETE older FROM messageservice.`draftmessage` older
+INNER JOIN messageservice.`draftmessage` newer
+    ON older.user_id = newer.user_id
+    AND older.rc_group_id = newer.rc_group_id
+    AND older.id < newer.id;
+ALTER TABLE messageservice.`draftmessage`
+    ADD UNIQUE INDEX `draftmessage_user_id_rc_group_id` (`user_id`, `rc_group_id`);
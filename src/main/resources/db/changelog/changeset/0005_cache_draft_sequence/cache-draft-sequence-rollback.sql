@@ -0,0 +1,2 @@
+ALTER SEQUENCE messageservice.sequence_draftmessage
+CACHE 0;
@@ -0,0 +1,3 @@
+-- values are cached by the server, so inserting a draft does not write the sequence table
+ALTER SEQUENCE messageservice.sequence_draftmessage
+CACHE 1000;
@@ -32,9 +32,11 @@ import de.caritas.cob.messageservice.api.model.VideoCallMessageDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResponseDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResultDTO;
 import de.caritas.cob.messageservice.api.service.DraftMessageService;
-import de.caritas.cob.messageservice.api.service.LiveEventNotificationService;
+import de.caritas.cob.messageservice.api.service.LiveEventDispatcher;
+import de.caritas.cob.messageservice.api.service.MarkAsReadService;
 import de.caritas.cob.messageservice.api.service.MessageMapper;
 import de.caritas.cob.messageservice.api.service.RocketChatService;
+import de.caritas.cob.messageservice.api.service.SessionService;
 import de.caritas.cob.messageservice.api.service.statistics.StatisticsService;
 import de.caritas.cob.messageservice.api.service.statistics.event.CreateMessageStatisticsEvent;
 import de.caritas.cob.messageservice.statisticsservice.generated.web.model.UserRole;
@@ -73,11 +75,14 @@ public class MessengerTest {
   @Mock
   private RocketChatService rocketChatService;
 
+  @Mock
+  private MarkAsReadService markAsReadService;
+
   @Mock
   private EmailNotificationFacade emailNotificationFacade;
 
   @Mock
-  private LiveEventNotificationService liveEventNotificationService;
+  private LiveEventDispatcher liveEventDispatcher;
 
   @Mock
   private DraftMessageService draftMessageService;
@@ -88,6 +93,9 @@ public class MessengerTest {
   @Mock
   private AuthenticatedUser authenticatedUser;
 
+  @Mock
+  private SessionService sessionService;
+
   @SuppressWarnings("unused")
   @Spy
   private MessageMapper mapper = new MessageMapper(new ObjectMapper(), null);
@@ -148,17 +156,16 @@ public class MessengerTest {
         Optional.empty(), null);
   }
 
-  @Test(expected = InternalServerErrorException.class)
-  public void postGroupMessage_Should_ReturnRocketChatPostMarkGroupAsReadExceptionAndNotSendNotification_When_RocketChatMarkGroupAsReadFails()
+  @Test
+  public void postGroupMessage_Should_MarkGroupAsReadInBackground_When_MessageWasSent()
       throws CustomCryptoException {
 
     var groupMessage = createGroupMessage().build();
-    when(rocketChatService.postGroupMessage(groupMessage)).thenReturn(null);
+    when(rocketChatService.postGroupMessage(groupMessage)).thenReturn(POST_MESSAGE_RESPONSE_DTO);
 
     messenger.postGroupMessage(groupMessage);
 
-    verify(emailNotificationFacade, times(0)).sendEmailAboutNewChatMessage(RC_GROUP_ID,
-        Optional.empty(), null);
+    verify(markAsReadService, times(1)).markGroupAsReadForSystemUser(RC_GROUP_ID);
   }
 
   @Test
@@ -242,19 +249,19 @@ public class MessengerTest {
         Optional.empty(), null);
   }
 
-  @Test(expected = InternalServerErrorException.class)
-  public void postFeedbackGroupMessage_Should_ReturnRocketChatPostMarkGroupAsReadExceptionAndNotSendFeedbackNotification_When_RocketChatMarkGroupAsReadFails()
+  @Test
+  public void postFeedbackGroupMessage_Should_MarkGroupAsReadInBackground_When_MessageWasSent()
       throws CustomCryptoException {
 
     when(rocketChatService.getGroupInfo(RC_TOKEN, RC_USER_ID, RC_FEEDBACK_GROUP_ID))
         .thenReturn(GET_GROUP_INFO_DTO_FEEDBACK_CHAT);
     var feedbackGroupMessage = createFeedbackGroupMessage().build();
-    when(rocketChatService.postGroupMessage(feedbackGroupMessage)).thenReturn(null);
+    when(rocketChatService.postGroupMessage(feedbackGroupMessage)).thenReturn(
+        POST_MESSAGE_RESPONSE_DTO);
 
     messenger.postFeedbackGroupMessage(feedbackGroupMessage);
 
-    verify(emailNotificationFacade, times(0)).sendEmailAboutNewFeedbackMessage(
-        RC_FEEDBACK_GROUP_ID, any(), anyString());
+    verify(markAsReadService, times(1)).markGroupAsReadForSystemUser(RC_FEEDBACK_GROUP_ID);
   }
 
   @Test
@@ -263,7 +270,8 @@ public class MessengerTest {
 
     when(rocketChatService.getGroupInfo(RC_TOKEN, RC_USER_ID, RC_FEEDBACK_GROUP_ID))
         .thenReturn(GET_GROUP_INFO_DTO_FEEDBACK_CHAT);
-    var feedbackGroupMessage = createFeedbackGroupMessage().build();
+    var feedbackGroupMessage = createFeedbackGroupMessage().sendNotification(SEND_NOTIFICATION)
+        .build();
     when(rocketChatService.postGroupMessage(feedbackGroupMessage)).thenReturn(
         POST_MESSAGE_RESPONSE_DTO);
 
@@ -296,7 +304,7 @@ public class MessengerTest {
 
     messenger.postGroupMessage(noNotificationMessage);
 
-    verify(liveEventNotificationService).sendLiveEvent(eq(RC_GROUP_ID), any(), any());
+    verify(liveEventDispatcher).dispatchLiveEvent(eq(RC_GROUP_ID), any(), any());
   }
 
   @Test
@@ -311,7 +319,7 @@ public class MessengerTest {
 
     messenger.postFeedbackGroupMessage(feedbackGroupMessage);
 
-    verify(this.liveEventNotificationService).sendLiveEvent(eq(RC_FEEDBACK_GROUP_ID), any(), any());
+    verify(this.liveEventDispatcher).dispatchLiveEvent(eq(RC_FEEDBACK_GROUP_ID), any(), any());
   }
 
   @Test
@@ -324,7 +332,7 @@ public class MessengerTest {
 
     messenger.postGroupMessage(systemFeedbackMessage);
 
-    verifyNoInteractions(this.liveEventNotificationService);
+    verifyNoInteractions(this.liveEventDispatcher);
   }
 
   @Test
@@ -424,6 +432,39 @@ public class MessengerTest {
         null);
   }
 
+  @Test
+  public void createEvent_Should_evictCachedAdviceseeker_When_messageTypeIsUpdateSessionData() {
+    var aliasMessageDTO = new AliasMessageDTO().messageType(MessageType.UPDATE_SESSION_DATA);
+    when(rocketChatService.postAliasOnlyMessageAsSystemUser(RC_GROUP_ID, aliasMessageDTO, null))
+        .thenReturn(createSuccessfulMessageResult(null, RC_GROUP_ID));
+
+    messenger.createEvent(RC_GROUP_ID, MessageType.UPDATE_SESSION_DATA, null);
+
+    verify(sessionService).evictAdviceseekerUserId(RC_GROUP_ID);
+  }
+
+  @Test
+  public void createEvent_Should_evictCachedAdviceseeker_When_messageTypeIsFinishedConversation() {
+    var aliasMessageDTO = new AliasMessageDTO().messageType(MessageType.FINISHED_CONVERSATION);
+    when(rocketChatService.postAliasOnlyMessageAsSystemUser(RC_GROUP_ID, aliasMessageDTO, null))
+        .thenReturn(createSuccessfulMessageResult(null, RC_GROUP_ID));
+
+    messenger.createEvent(RC_GROUP_ID, MessageType.FINISHED_CONVERSATION, null);
+
+    verify(sessionService).evictAdviceseekerUserId(RC_GROUP_ID);
+  }
+
+  @Test
+  public void createEvent_Should_keepCachedAdviceseeker_When_messageTypeIsFurtherSteps() {
+    var aliasMessageDTO = new AliasMessageDTO().messageType(MessageType.FURTHER_STEPS);
+    when(rocketChatService.postAliasOnlyMessageAsSystemUser(RC_GROUP_ID, aliasMessageDTO, null))
+        .thenReturn(createSuccessfulMessageResult(null, RC_GROUP_ID));
+
+    messenger.createEvent(RC_GROUP_ID, MessageType.FURTHER_STEPS, null);
+
+    verifyNoInteractions(sessionService);
+  }
+
   private ChatMessageBuilder createFeedbackGroupMessage() {
     return ChatMessage.builder().rcToken(RC_TOKEN).rcUserId(RC_USER_ID)
         .rcGroupId(RC_FEEDBACK_GROUP_ID).text(MESSAGE);
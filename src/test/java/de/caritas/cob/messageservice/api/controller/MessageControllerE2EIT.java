@@ -17,6 +17,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.endsWith;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -29,7 +30,6 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
 import de.caritas.cob.messageservice.api.authorization.Authority.AuthorityValue;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.exception.RocketChatUserNotInitializedException;
@@ -54,6 +54,7 @@ import de.caritas.cob.messageservice.api.model.rocket.chat.message.MessagesDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResponseDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageWrapper;
 import de.caritas.cob.messageservice.api.repository.DraftMessageRepository;
+import de.caritas.cob.messageservice.api.service.DraftMessageService;
 import de.caritas.cob.messageservice.api.service.EncryptionService;
 import de.caritas.cob.messageservice.api.service.LiveEventNotificationService;
 import de.caritas.cob.messageservice.api.service.RocketChatService;
@@ -63,7 +64,6 @@ import de.caritas.cob.messageservice.api.service.dto.MessageResponse;
 import de.caritas.cob.messageservice.api.service.dto.StringifiedMessageResponse;
 import de.caritas.cob.messageservice.api.service.helper.RocketChatCredentialsHelper;
 import de.caritas.cob.messageservice.api.service.statistics.StatisticsService;
-import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionListResponseDTO;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -94,6 +94,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
@@ -122,6 +123,9 @@ class MessageControllerE2EIT {
   @Autowired
   private DraftMessageRepository draftMessageRepository;
 
+  @Autowired
+  private DraftMessageService draftMessageService;
+
   @MockBean
   private RestTemplate restTemplate;
 
@@ -504,6 +508,52 @@ class MessageControllerE2EIT {
         .andExpect(jsonPath("t", is("e2e")));
   }
 
+  @Test
+  @WithMockUser(authorities = AuthorityValue.USER_DEFAULT)
+  void saveDraftMessageShouldCreateDraftOnceAndOverwriteItAfterwards() throws Exception {
+    var userId = UUID.randomUUID().toString();
+    var rcGroupId = RandomStringUtils.randomAlphanumeric(16);
+    givenAuthenticatedUser(userId);
+
+    saveDraftMessage(rcGroupId, "enc.first").andExpect(status().isCreated());
+    saveDraftMessage(rcGroupId, "enc.second").andExpect(status().isOk());
+    draftMessageService.flush();
+
+    draftMessage = draftMessageRepository.findByUserIdAndRcGroupId(userId, rcGroupId)
+        .orElseThrow();
+    assertEquals("enc.second", draftMessage.getMessage());
+  }
+
+  @Test
+  @WithMockUser(authorities = AuthorityValue.USER_DEFAULT)
+  void saveDraftMessageShouldRespondWithOkWhenTheSameDraftIsSavedAgain() throws Exception {
+    var userId = UUID.randomUUID().toString();
+    var rcGroupId = RandomStringUtils.randomAlphanumeric(16);
+    givenAuthenticatedUser(userId);
+
+    saveDraftMessage(rcGroupId, "enc.same").andExpect(status().isCreated());
+    draftMessageService.flush();
+    saveDraftMessage(rcGroupId, "enc.same").andExpect(status().isOk());
+    draftMessageService.flush();
+    saveDraftMessage(rcGroupId, "enc.same").andExpect(status().isOk());
+    draftMessageService.flush();
+
+    draftMessage = draftMessageRepository.findByUserIdAndRcGroupId(userId, rcGroupId)
+        .orElseThrow();
+    assertEquals("enc.same", draftMessage.getMessage());
+  }
+
+  private ResultActions saveDraftMessage(String rcGroupId, String message) throws Exception {
+    return mockMvc.perform(
+        post("/messages/draft")
+            .cookie(CSRF_COOKIE)
+            .header(CSRF_HEADER, CSRF_VALUE)
+            .header("rcGroupId", rcGroupId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"message\": \"" + message + "\", \"t\": \"e2e\"}")
+    );
+  }
+
   @Test
   @WithMockUser(authorities = AuthorityValue.USER_DEFAULT)
   void patchMessageShouldRespondWithClientErrorWhenMessageIdHasWrongFormat()
@@ -885,8 +935,8 @@ class MessageControllerE2EIT {
   void sendMessageShouldTransmitTypeOfMessage() throws Exception {
     givenAuthenticatedUser();
     givenRocketChatSystemUser();
-    when(sessionService.findSessionBelongingToRcGroupId(
-        Mockito.anyString(), Mockito.anyString())).thenReturn(new GroupSessionListResponseDTO());
+    when(sessionService.findAdviceseekerUserId(
+        Mockito.anyString(), Mockito.anyString())).thenReturn(null);
     var rcGroupId = RandomStringUtils.randomAlphabetic(16);
     givenSuccessfulSendMessageResponse("p", rcGroupId);
     givenAMasterKey();
@@ -921,10 +971,8 @@ class MessageControllerE2EIT {
     var rcGroupId = RandomStringUtils.randomAlphabetic(16);
     givenSuccessfulSendMessageResponse("e2e", rcGroupId);
     givenAMasterKey();
-    when(sessionService.findSessionBelongingToRcGroupId(
-        Mockito.anyString(), Mockito.anyString())).thenReturn(new GroupSessionListResponseDTO().sessions(
-        Lists.newArrayList(new de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionResponseDTO()
-                .user(new de.caritas.cob.messageservice.userservice.generated.web.model.SessionUserDTO().id("userId")))));
+    when(sessionService.findAdviceseekerUserId(
+        Mockito.anyString(), Mockito.anyString())).thenReturn("userId");
 
     MessageDTO encryptedMessage = createMessage("enc.secret_message", "e2e");
 
@@ -1007,6 +1055,57 @@ class MessageControllerE2EIT {
     assertNotNull(messageRequestPayload);
   }
 
+  @Test
+  @WithMockUser(authorities = {AuthorityValue.USE_FEEDBACK})
+  void createFeedbackMessageShouldRequestGroupInfoOnlyOncePerUserAndGroup() throws Exception {
+    givenAuthenticatedUser();
+    givenRocketChatSystemUser();
+    givenAFeedbackGroupResponse();
+    var rcFeedbackGroupId = RandomStringUtils.randomAlphabetic(16);
+    givenSuccessfulSendMessageResponse(null, rcFeedbackGroupId);
+    givenAMasterKey();
+    var rcUserId = RandomStringUtils.randomAlphabetic(16);
+
+    postFeedbackMessage(rcUserId, rcFeedbackGroupId).andExpect(status().isCreated());
+    postFeedbackMessage(rcUserId, rcFeedbackGroupId).andExpect(status().isCreated());
+
+    verify(restTemplate, times(1)).exchange(any(URI.class), eq(HttpMethod.GET), any(),
+        eq(GetGroupInfoDto.class));
+  }
+
+  @Test
+  @WithMockUser(authorities = {AuthorityValue.USE_FEEDBACK})
+  void createFeedbackMessageShouldRequestGroupInfoForEveryUser() throws Exception {
+    givenAuthenticatedUser();
+    givenRocketChatSystemUser();
+    givenAFeedbackGroupResponse();
+    var rcFeedbackGroupId = RandomStringUtils.randomAlphabetic(16);
+    givenSuccessfulSendMessageResponse(null, rcFeedbackGroupId);
+    givenAMasterKey();
+
+    postFeedbackMessage(RandomStringUtils.randomAlphabetic(16), rcFeedbackGroupId)
+        .andExpect(status().isCreated());
+    postFeedbackMessage(RandomStringUtils.randomAlphabetic(16), rcFeedbackGroupId)
+        .andExpect(status().isCreated());
+
+    verify(restTemplate, times(2)).exchange(any(URI.class), eq(HttpMethod.GET), any(),
+        eq(GetGroupInfoDto.class));
+  }
+
+  private ResultActions postFeedbackMessage(String rcUserId, String rcFeedbackGroupId)
+      throws Exception {
+    return mockMvc.perform(
+        post("/messages/feedback/new")
+            .cookie(CSRF_COOKIE)
+            .header(CSRF_HEADER, CSRF_VALUE)
+            .header("rcToken", RandomStringUtils.randomAlphabetic(16))
+            .header("rcUserId", rcUserId)
+            .header("rcFeedbackGroupId", rcFeedbackGroupId)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(createMessage("a feedback message", null)))
+    );
+  }
+
   @Test
   @WithMockUser(authorities = {AuthorityValue.USE_FEEDBACK})
   void forwardMessageShouldReturnSendMessageResultOnSuccessfulRequest()
@@ -8,6 +8,7 @@ import static de.caritas.cob.messageservice.api.controller.MessageControllerAuth
 import static de.caritas.cob.messageservice.api.controller.MessageControllerAuthorizationTestIT.PATH_POST_FORWARD_MESSAGE;
 import static de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType.NEW_MESSAGE;
 import static de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType.OVERWRITTEN_MESSAGE;
+import static de.caritas.cob.messageservice.testhelper.LoggerHelper.setLogger;
 import static de.caritas.cob.messageservice.testhelper.TestConstants.DONT_SEND_NOTIFICATION;
 import static de.caritas.cob.messageservice.testhelper.TestConstants.MESSAGE;
 import static de.caritas.cob.messageservice.testhelper.TestConstants.RC_ATTACHMENT_DESCRIPTION;
@@ -42,7 +43,6 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -149,7 +149,7 @@ public class MessageControllerTestIT {
 
   @Before
   public void setup() {
-    setInternalState(LogService.class, "LOGGER", logger);
+    setLogger(LogService.class, logger);
   }
 
   /**
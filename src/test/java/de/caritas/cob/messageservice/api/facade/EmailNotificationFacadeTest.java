@@ -3,7 +3,6 @@ package de.caritas.cob.messageservice.api.facade;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -13,7 +12,6 @@ import de.caritas.cob.messageservice.api.model.ReassignStatus;
 import de.caritas.cob.messageservice.api.service.helper.ServiceHelper;
 import de.caritas.cob.messageservice.api.tenant.TenantContext;
 import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
-import de.caritas.cob.messageservice.userservice.generated.ApiClient;
 import de.caritas.cob.messageservice.userservice.generated.web.UserControllerApi;
 import de.caritas.cob.messageservice.userservice.generated.web.model.NewMessageNotificationDTO;
 import de.caritas.cob.messageservice.userservice.generated.web.model.ReassignmentNotificationDTO;
@@ -54,7 +52,7 @@ class EmailNotificationFacadeTest {
   void sendEmailNotification_Should_sendExpectedNotificationMailViaUserService() {
     // given
     when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
-    givenApiClientAndHeadersAreConfigured();
+    givenHeadersAreConfigured();
     // when
     sendEmailNotification();
     // then
@@ -62,17 +60,16 @@ class EmailNotificationFacadeTest {
     verify(userControllerApi).sendNewMessageNotification(expectedMessage);
   }
 
-  private void givenApiClientAndHeadersAreConfigured() {
+  private void givenHeadersAreConfigured() {
     when(serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(any(), any()))
         .thenReturn(new HttpHeaders());
-    when(userControllerApi.getApiClient()).thenReturn(mock(ApiClient.class));
   }
 
   @Test
   void sendEmailAboutNewChatMessage_Should_sendExpectedNotificationMailViaUserServiceAndSetTenantContextFromACallingServiceForMultitenancyEnabled() {
     // given
     when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
-    givenApiClientAndHeadersAreConfigured();
+    givenHeadersAreConfigured();
     TenantContext.clear();
     ReflectionTestUtils.setField(emailNotificationFacade, "multitenancy", true);
     // when
@@ -110,7 +107,7 @@ class EmailNotificationFacadeTest {
   @Test
   void sendFeedbackEmailNotification_Should_sendExpectedFeedbackNotificationMailViaUserService() {
     when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
-    givenApiClientAndHeadersAreConfigured();
+    givenHeadersAreConfigured();
     // when
     emailNotificationFacade.sendEmailAboutNewFeedbackMessage(RC_GROUP_ID, Optional.empty(), null);
 
@@ -123,7 +120,7 @@ class EmailNotificationFacadeTest {
   void sendEmailAboutReassignRequest_Should_sendExpectedReassignNotificationMailViaUserService() {
     // given
     when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
-    givenApiClientAndHeadersAreConfigured();
+    givenHeadersAreConfigured();
     var aliasArgs = new EasyRandom().nextObject(AliasArgs.class);
 
     // when
@@ -143,7 +140,7 @@ class EmailNotificationFacadeTest {
   void sendEmailAboutReassignDecision_Should_sendExpectedReassignNotificationMailViaUserService() {
     // given
     when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
-    givenApiClientAndHeadersAreConfigured();
+    givenHeadersAreConfigured();
     var consultantReassignment = new EasyRandom().nextObject(ConsultantReassignment.class);
 
     // when
@@ -9,6 +9,7 @@ import static org.hamcrest.Matchers.is;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.messageservice.api.model.AliasMessageDTO;
+import de.caritas.cob.messageservice.api.model.ForwardMessageDTO;
 import de.caritas.cob.messageservice.api.service.LogService;
 import de.caritas.cob.messageservice.statisticsservice.generated.web.model.CreateMessageStatisticsEventMessage;
 import de.caritas.cob.messageservice.statisticsservice.generated.web.model.EventType;
@@ -31,6 +32,27 @@ public class JSONHelperTests {
     assertThat(result.isPresent(), is(true));
   }
 
+  @Test
+  public void convertStringToAliasMessageDTO_Should_returnEqualDTO_When_stringIsConvertedAliasMessageDTO() {
+    AliasMessageDTO aliasMessageDTO = new EasyRandom().nextObject(AliasMessageDTO.class);
+    String alias = JSONHelper.convertAliasMessageDTOToString(aliasMessageDTO).orElseThrow();
+
+    Optional<AliasMessageDTO> result = JSONHelper.convertStringToAliasMessageDTO(alias);
+
+    assertThat(result.isPresent(), is(true));
+    assertThat(result.get(), is(aliasMessageDTO));
+  }
+
+  @Test
+  public void convertStringToForwardMessageDTO_Should_returnOptionalEmpty_When_stringIsNewAliasStructure() {
+    AliasMessageDTO aliasMessageDTO = new EasyRandom().nextObject(AliasMessageDTO.class);
+    String alias = JSONHelper.convertAliasMessageDTOToString(aliasMessageDTO).orElseThrow();
+
+    Optional<ForwardMessageDTO> result = JSONHelper.convertStringToForwardMessageDTO(alias);
+
+    assertThat(result.isPresent(), is(false));
+  }
+
   @Test
   public void convertStringToAliasMessageDTO_Should_returnOptionalEmpty_When_jsonStringCanNotBeConverted() {
     Optional<AliasMessageDTO> result = JSONHelper.convertStringToAliasMessageDTO("alias");
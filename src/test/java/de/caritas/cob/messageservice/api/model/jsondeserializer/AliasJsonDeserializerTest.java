@@ -25,6 +25,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.messageservice.api.helper.UserHelper;
 import de.caritas.cob.messageservice.api.model.AliasMessageDTO;
 import de.caritas.cob.messageservice.api.model.ForwardMessageDTO;
+import de.caritas.cob.messageservice.api.model.MessageType;
 import de.caritas.cob.messageservice.api.model.VideoCallMessageDTO;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -145,6 +146,55 @@ public class AliasJsonDeserializerTest {
     assertThat(result.getVideoCallMessageDTO().getInitiatorUserName(), is(decodedUsername));
   }
 
+  @Test
+  public void getAliasMessageDTO_Should_returnAliasDTOWithMessageType_When_aliasOnlyContainsMessageType() {
+    AliasMessageDTO result = aliasJsonDeserializer
+        .getAliasMessageDTO("%7B%22messageType%22%3A%22FURTHER_STEPS%22%7D");
+
+    assertThat(result.getMessageType(), is(MessageType.FURTHER_STEPS));
+    assertThat(result.getForwardMessageDTO(), nullValue());
+  }
+
+  @Test
+  public void getAliasMessageDTO_Should_returnNull_When_oldForwardMessageContainsUnknownField() {
+    AliasMessageDTO result = aliasJsonDeserializer
+        .getAliasMessageDTO("{\"message\":\"message\",\"unknown\":\"value\"}");
+
+    assertNull(result);
+  }
+
+  @Test
+  public void getAliasMessageDTO_Should_returnNull_When_aliasIsNoValidJson() {
+    assertNull(aliasJsonDeserializer.getAliasMessageDTO("alias"));
+    assertNull(aliasJsonDeserializer.getAliasMessageDTO("null"));
+  }
+
+  @Test
+  public void getAliasMessageDTO_Should_returnIndependentInstances_When_aliasIsDecodedRepeatedly() {
+    String alias = "%7B%22messageType%22%3A%22USER_MUTED%22%7D";
+
+    AliasMessageDTO first = aliasJsonDeserializer.getAliasMessageDTO(alias);
+    first.setMessageType(MessageType.FORWARD);
+    first.setContent("changed");
+    AliasMessageDTO second = aliasJsonDeserializer.getAliasMessageDTO(alias);
+
+    assertThat(second == first, is(false));
+    assertThat(second.getMessageType(), is(MessageType.USER_MUTED));
+    assertThat(second.getContent(), nullValue());
+  }
+
+  @Test
+  public void getAliasMessageDTO_Should_keepContent_When_aliasWithContentIsDecodedRepeatedly() {
+    String alias =
+        "%7B%22messageType%22%3A%22APPOINTMENT_SET%22%2C%22content%22%3A%22content%22%7D";
+
+    aliasJsonDeserializer.getAliasMessageDTO(alias);
+    AliasMessageDTO result = aliasJsonDeserializer.getAliasMessageDTO(alias);
+
+    assertThat(result.getMessageType(), is(MessageType.APPOINTMENT_SET));
+    assertThat(result.getContent(), is("content"));
+  }
+
   private AliasMessageDTO deserializeOldAliasJson(String json) throws IOException {
     InputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
     JsonParser jsonParser = objectMapper.getFactory().createParser(stream);
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.when;
 import de.caritas.cob.messageservice.MessageServiceApplication;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.helper.AuthenticatedUser;
+import de.caritas.cob.messageservice.api.repository.DraftMessageRepository;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +32,9 @@ public class DraftMessageServiceIT {
   @Autowired
   private DraftMessageService draftMessageService;
 
+  @Autowired
+  private DraftMessageRepository draftMessageRepository;
+
   @MockBean
   private AuthenticatedUser authenticatedUser;
 
@@ -76,4 +80,36 @@ public class DraftMessageServiceIT {
     assertThat(loadedDraftMessage.get().getMessage(), is(("message")));
     assertThat(loadedDraftMessage.get().getT(), is(("e2e")));
   }
+
+  @Test
+  public void flush_Should_writeBufferedDraftsToDatabase() {
+    var rcGroupId = "hQs8rT2mVZbNkPa5e";
+
+    draftMessageService.saveDraftMessage("first", rcGroupId, "e2e");
+    draftMessageService.saveDraftMessage("second", rcGroupId, "e2e");
+    draftMessageService.flush();
+
+    var draftMessage = draftMessageRepository.findByUserIdAndRcGroupId("userId", rcGroupId);
+    assertThat(draftMessage.isPresent(), is(true));
+    assertThat(draftMessage.get().getMessage(), is("second"));
+
+    draftMessageService.deleteDraftMessageIfExist(rcGroupId);
+
+    assertThat(draftMessageRepository.findByUserIdAndRcGroupId("userId", rcGroupId).isPresent(),
+        is(false));
+    assertThat(draftMessageService.findAndDecryptDraftMessage(rcGroupId).isPresent(), is(false));
+  }
+
+  @Test
+  public void flush_Should_notRestoreDraft_When_draftIsDeletedByAnotherInstance() {
+    var rcGroupId = "Zq3fN7wLbKx9sTe2c";
+
+    draftMessageService.saveDraftMessage("first", rcGroupId, "e2e");
+    draftMessageService.saveDraftMessage("second", rcGroupId, "e2e");
+    draftMessageRepository.deleteByUserIdAndRcGroupId("userId", rcGroupId);
+    draftMessageService.flush();
+
+    assertThat(draftMessageRepository.findByUserIdAndRcGroupId("userId", rcGroupId).isPresent(),
+        is(false));
+  }
 }
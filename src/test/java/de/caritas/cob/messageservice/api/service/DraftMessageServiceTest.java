@@ -5,10 +5,13 @@ import static de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftTyp
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
@@ -17,14 +20,20 @@ import de.caritas.cob.messageservice.api.helper.AuthenticatedUser;
 import de.caritas.cob.messageservice.api.model.draftmessage.SavedDraftType;
 import de.caritas.cob.messageservice.api.model.draftmessage.entity.DraftMessage;
 import de.caritas.cob.messageservice.api.repository.DraftMessageRepository;
+import java.sql.SQLException;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RunWith(MockitoJUnitRunner.class)
 public class DraftMessageServiceTest {
@@ -36,68 +45,198 @@ public class DraftMessageServiceTest {
   private DraftMessageRepository draftMessageRepository;
 
   @Mock
-  @SuppressWarnings("unused")
   private AuthenticatedUser authenticatedUser;
 
   @Mock
   private EncryptionService encryptionService;
 
-  @Captor
-  ArgumentCaptor<DraftMessage> captor;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  @Before
+  public void setup() {
+    ReflectionTestUtils.setField(this.draftMessageService, "bufferMaxSize", 10);
+    ReflectionTestUtils.setField(this.draftMessageService, "batchSize", 2);
+  }
 
   @Test
   public void saveDraftMessage_Should_returnNewMessageType_When_noMessageForUserAndRcGroupExists()
       throws CustomCryptoException {
-
     SavedDraftType savedDraftType = this.draftMessageService.saveDraftMessage("message",
         "rcGroupId", null);
 
     assertThat(savedDraftType, is(NEW_MESSAGE));
-    verify(this.draftMessageRepository, times(1)).save(any());
     verify(this.encryptionService).encrypt(any(), any());
+    verify(this.draftMessageRepository).insertDraftMessage(any(), eq("rcGroupId"), any(), any(),
+        any());
+    verify(this.draftMessageRepository, never()).updateDraftMessage(any(), any(), any(), any());
+    assertThat(draftMessageService.pendingDraftCount(), is(0));
   }
 
   @Test
   public void saveDraftMessage_Should_returnOverwrittenMessageType_When_messageForUserAndRcGroupExists()
       throws CustomCryptoException {
-    when(this.draftMessageRepository.findByUserIdAndRcGroupId(any(), any()))
-        .thenReturn(Optional.of(new DraftMessage()));
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), eq("rcGroupId")))
+        .thenReturn(Optional.of(1L));
 
     SavedDraftType savedDraftType = this.draftMessageService.saveDraftMessage("message",
         "rcGroupId", "p");
 
     assertThat(savedDraftType, is(OVERWRITTEN_MESSAGE));
     verify(this.encryptionService).encrypt(any(), any());
+    verify(this.draftMessageRepository, never()).updateDraftMessageById(any(), any(), any());
+    assertThat(draftMessageService.pendingDraftCount(), is(1));
+  }
 
-    verify(this.draftMessageRepository).save(captor.capture());
-    assertThat("p", is(captor.getValue().getT()));
+  @Test
+  public void saveDraftMessage_Should_returnOverwrittenMessageType_When_draftIsBuffered() {
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), eq("rcGroupId")))
+        .thenReturn(Optional.of(1L));
+    this.draftMessageService.saveDraftMessage("first", "rcGroupId", "e2e");
+
+    SavedDraftType savedDraftType = this.draftMessageService.saveDraftMessage("second",
+        "rcGroupId", "e2e");
+
+    assertThat(savedDraftType, is(OVERWRITTEN_MESSAGE));
+    verify(this.draftMessageRepository, times(1)).findIdByUserIdAndRcGroupId(any(), any());
   }
 
   @Test
-  public void saveDraftMessage_should_not_encrypt_message_if_already_e2e_encrypted()
-      throws CustomCryptoException {
+  public void saveDraftMessage_Should_returnOverwrittenMessageType_When_draftIsCreatedMeanwhile() {
+    givenDraftInsertFails("DRAFTMESSAGE_USER_ID_RC_GROUP_ID");
+
+    SavedDraftType savedDraftType = this.draftMessageService.saveDraftMessage("message",
+        "rcGroupId", "e2e");
+
+    assertThat(savedDraftType, is(OVERWRITTEN_MESSAGE));
+    verify(this.draftMessageRepository)
+        .updateDraftMessage(any(), eq("rcGroupId"), eq("message"), eq("e2e"));
+  }
+
+  @Test(expected = DataIntegrityViolationException.class)
+  public void saveDraftMessage_Should_throwException_When_insertViolatesAnotherConstraint() {
+    givenDraftInsertFails(null);
+
+    this.draftMessageService.saveDraftMessage("message", "rcGroupId", "e2e");
+  }
+
+  @Test
+  public void saveDraftMessage_should_not_encrypt_message_if_already_e2e_encrypted() {
+    givenTransactionsAreExecuted();
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), eq("rcGroupId")))
+        .thenReturn(Optional.of(1L));
+
+    draftMessageService.saveDraftMessage("message", "rcGroupId", "e2e");
+    draftMessageService.flush();
+
+    verifyNoInteractions(this.encryptionService);
+    verify(this.draftMessageRepository).updateDraftMessageById(1L, "message", "e2e");
+  }
+
+  @Test
+  public void saveDraftMessage_Should_writeDraftThrough_When_bufferIsFull() {
+    ReflectionTestUtils.setField(this.draftMessageService, "bufferMaxSize", 1);
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), any()))
+        .thenReturn(Optional.of(1L), Optional.of(2L));
+
     draftMessageService.saveDraftMessage("message", "rcGroupId", "e2e");
+    draftMessageService.saveDraftMessage("message", "otherRcGroupId", "e2e");
 
-    verifyNoMoreInteractions(this.encryptionService);
-    verify(this.draftMessageRepository).save(captor.capture());
-    assertThat("e2e", is(captor.getValue().getT()));
+    verify(this.draftMessageRepository).updateDraftMessageById(2L, "message", "e2e");
+    verifyNoInteractions(this.transactionTemplate);
+    assertThat(draftMessageService.pendingDraftCount(), is(1));
   }
 
   @Test
-  public void deleteDraftMessageIfExist_Should_notCallDelete_When_noMessageForUserAndGroupExists() {
+  public void flush_Should_writeLatestDraftOnce_When_draftIsSavedSeveralTimes() {
+    givenTransactionsAreExecuted();
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), any()))
+        .thenReturn(Optional.of(1L), Optional.of(2L));
+
+    draftMessageService.saveDraftMessage("first", "rcGroupId", "e2e");
+    draftMessageService.saveDraftMessage("second", "rcGroupId", "e2e");
+    draftMessageService.saveDraftMessage("message", "otherRcGroupId", "e2e");
+    draftMessageService.flush();
+    draftMessageService.flush();
+
+    verify(this.draftMessageRepository).updateDraftMessageById(1L, "second", "e2e");
+    verify(this.draftMessageRepository).updateDraftMessageById(2L, "message", "e2e");
+    verify(this.draftMessageRepository, times(2)).updateDraftMessageById(any(), any(), any());
+    assertThat(draftMessageService.pendingDraftCount(), is(0));
+  }
+
+  @Test
+  public void flush_Should_keepDrafts_When_databaseIsUnavailable() {
+    doThrow(new TransientDataAccessResourceException("unavailable"))
+        .when(this.transactionTemplate).executeWithoutResult(any());
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), any()))
+        .thenReturn(Optional.of(1L));
+
+    draftMessageService.saveDraftMessage("message", "rcGroupId", "e2e");
+    draftMessageService.flush();
+
+    assertThat(draftMessageService.pendingDraftCount(), is(1));
+    verify(this.draftMessageRepository, never()).updateDraftMessageById(any(), any(), any());
+  }
+
+  @Test
+  public void flush_Should_writeDraftsOneByOne_When_batchFails() {
+    ReflectionTestUtils.setField(this.draftMessageService, "maxWriteAttempts", 5);
+    doThrow(new DataIntegrityViolationException("invalid"))
+        .when(this.transactionTemplate).executeWithoutResult(any());
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), any()))
+        .thenReturn(Optional.of(1L), Optional.of(2L));
+    when(this.draftMessageRepository.updateDraftMessageById(eq(1L), any(), any()))
+        .thenThrow(new DataIntegrityViolationException("invalid"));
+
+    draftMessageService.saveDraftMessage("invalid", "rcGroupId", "e2e");
+    draftMessageService.saveDraftMessage("message", "otherRcGroupId", "e2e");
+    draftMessageService.flush();
+
+    verify(this.draftMessageRepository).updateDraftMessageById(2L, "message", "e2e");
+    assertThat(draftMessageService.pendingDraftCount(), is(1));
+  }
+
+  @Test
+  public void flush_Should_dropDraft_When_writingFailsRepeatedly() {
+    ReflectionTestUtils.setField(this.draftMessageService, "maxWriteAttempts", 2);
+    doThrow(new DataIntegrityViolationException("invalid"))
+        .when(this.transactionTemplate).executeWithoutResult(any());
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), any()))
+        .thenReturn(Optional.of(1L));
+    when(this.draftMessageRepository.updateDraftMessageById(any(), any(), any()))
+        .thenThrow(new DataIntegrityViolationException("invalid"));
+
+    draftMessageService.saveDraftMessage("invalid", "rcGroupId", "e2e");
+    draftMessageService.flush();
+    assertThat(draftMessageService.pendingDraftCount(), is(1));
+    draftMessageService.flush();
+
+    assertThat(draftMessageService.pendingDraftCount(), is(0));
+  }
+
+  @Test
+  public void deleteDraftMessageIfExist_Should_deleteDraftOfUserInGroup() {
+    when(this.authenticatedUser.getUserId()).thenReturn("userId");
+
     this.draftMessageService.deleteDraftMessageIfExist("rcGroupId");
 
-    verify(this.draftMessageRepository, times(0)).delete(any());
+    verify(this.draftMessageRepository).deleteByUserIdAndRcGroupId("userId", "rcGroupId");
   }
 
   @Test
-  public void deleteDraftMessageIfExist_Should_callDelete_When_messageForUserAndGroupExists() {
-    when(this.draftMessageRepository.findByUserIdAndRcGroupId(any(), any()))
-        .thenReturn(Optional.of(new DraftMessage()));
+  public void deleteDraftMessageIfExist_Should_discardBufferedDraft() {
+    when(this.authenticatedUser.getUserId()).thenReturn("userId");
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId("userId", "rcGroupId"))
+        .thenReturn(Optional.of(1L));
+    this.draftMessageService.saveDraftMessage("message", "rcGroupId", "e2e");
 
     this.draftMessageService.deleteDraftMessageIfExist("rcGroupId");
+    this.draftMessageService.flush();
 
-    verify(this.draftMessageRepository, times(1)).delete(any());
+    verify(this.draftMessageRepository).deleteByUserIdAndRcGroupId("userId", "rcGroupId");
+    verify(this.draftMessageRepository, never()).updateDraftMessageById(any(), any(), any());
+    verifyNoInteractions(this.transactionTemplate);
   }
 
   @Test(expected = InternalServerErrorException.class)
@@ -151,4 +290,37 @@ public class DraftMessageServiceTest {
     this.draftMessageService.findAndDecryptDraftMessage("rcGroupId");
   }
 
+  @Test
+  public void findAndDecryptDraftMessage_Should_returnBufferedDraft_When_draftIsNotFlushed()
+      throws CustomCryptoException {
+    when(this.encryptionService.encrypt("message", "rcGroupId")).thenReturn("encrypted");
+    when(this.encryptionService.decrypt("encrypted", "rcGroupId")).thenReturn("message");
+    when(this.draftMessageRepository.findIdByUserIdAndRcGroupId(any(), eq("rcGroupId")))
+        .thenReturn(Optional.of(1L));
+    this.draftMessageService.saveDraftMessage("message", "rcGroupId", "p");
+
+    var message = this.draftMessageService.findAndDecryptDraftMessage("rcGroupId");
+
+    assertThat(message.isPresent(), is(true));
+    assertThat(message.get().getMessage(), is("message"));
+    assertThat(message.get().getT(), is("p"));
+    verify(this.draftMessageRepository, never()).findByUserIdAndRcGroupId(any(), any());
+  }
+
+  private void givenDraftInsertFails(String constraintName) {
+    var violation = new ConstraintViolationException("insert failed", new SQLException(),
+        constraintName);
+    doThrow(new DataIntegrityViolationException("insert failed", violation))
+        .when(this.draftMessageRepository)
+        .insertDraftMessage(any(), eq("rcGroupId"), any(), any(), any());
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenTransactionsAreExecuted() {
+    doAnswer(invocation -> {
+      invocation.getArgument(0, Consumer.class).accept(null);
+      return null;
+    }).when(this.transactionTemplate).executeWithoutResult(any());
+  }
+
 }
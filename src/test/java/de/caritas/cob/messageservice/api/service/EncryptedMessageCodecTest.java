@@ -0,0 +1,87 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class EncryptedMessageCodecTest {
+
+  private final Random random = new Random(42);
+
+  @Test
+  void encode_Should_ReturnFlaggedBase64OfJdk_ForAllRemainderLengths() {
+    for (var length = 0; length < 100; length++) {
+      var cipherText = randomBytes(length);
+      var buffer = new byte[EncryptedMessageCodec.encodedLength(length)];
+
+      var encoded = EncryptedMessageCodec.encode(cipherText, length, buffer);
+
+      assertEquals("enc:" + Base64.getEncoder().encodeToString(cipherText), encoded);
+    }
+  }
+
+  @Test
+  void encode_Should_OnlyEncodeGivenLengthOfBuffer() {
+    var cipherText = randomBytes(32);
+    var buffer = new byte[EncryptedMessageCodec.encodedLength(32)];
+
+    var encoded = EncryptedMessageCodec.encode(cipherText, 16, buffer);
+
+    var expected = Base64.getEncoder().encodeToString(Arrays.copyOf(cipherText, 16));
+    assertEquals("enc:" + expected, encoded);
+  }
+
+  @Test
+  void decode_Should_ReturnBytesOfJdkDecoder_ForAllRemainderLengths() {
+    for (var length = 0; length < 100; length++) {
+      var cipherText = randomBytes(length);
+      var encoded = "enc:" + Base64.getEncoder().encodeToString(cipherText);
+      var buffer = new byte[EncryptedMessageCodec.maxDecodedLength(encoded)];
+
+      var decodedLength = EncryptedMessageCodec.decode(encoded, buffer);
+
+      assertArrayEquals(cipherText, Arrays.copyOf(buffer, decodedLength));
+    }
+  }
+
+  @Test
+  void decode_Should_AcceptUnpaddedInput() {
+    var cipherText = randomBytes(17);
+    var encoded = "enc:" + Base64.getEncoder().withoutPadding().encodeToString(cipherText);
+    var buffer = new byte[EncryptedMessageCodec.maxDecodedLength(encoded)];
+
+    var decodedLength = EncryptedMessageCodec.decode(encoded, buffer);
+
+    assertArrayEquals(cipherText, Arrays.copyOf(buffer, decodedLength));
+  }
+
+  @Test
+  void decode_Should_ThrowIllegalArgumentException_When_MessageContainsIllegalCharacters() {
+    var buffer = new byte[16];
+
+    assertThrows(IllegalArgumentException.class,
+        () -> EncryptedMessageCodec.decode("enc:ab#d", buffer));
+    assertThrows(IllegalArgumentException.class,
+        () -> EncryptedMessageCodec.decode("enc:abcä", buffer));
+  }
+
+  @Test
+  void isEncrypted_Should_OnlyAcceptFlaggedMessages() {
+    assertTrue(EncryptedMessageCodec.isEncrypted("enc:abcd"));
+    assertFalse(EncryptedMessageCodec.isEncrypted("abcd"));
+    assertFalse(EncryptedMessageCodec.isEncrypted(null));
+  }
+
+  private byte[] randomBytes(int length) {
+    var bytes = new byte[length];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+}
@@ -12,6 +12,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
 import org.powermock.reflect.Whitebox;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -90,4 +94,74 @@ public class EncryptionServiceTest {
     assertNull(encryptionService.decrypt(null, KEY_MASTER));
   }
 
+  @Test
+  public void decrypt_Should_DeriveKeyOnlyOnce_WhenCalledRepeatedlyForSameSecret()
+      throws CustomCryptoException {
+    var meterRegistry = new SimpleMeterRegistry();
+    encryptionService.bindTo(meterRegistry);
+
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    encryptionService.encrypt(MESSAGE_PLAIN, KEY_SESSION);
+
+    assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss")
+        .functionCounter().count(), 0);
+    assertEquals(2.0, meterRegistry.get("cache.gets").tag("result", "hit")
+        .functionCounter().count(), 0);
+  }
+
+  @Test
+  public void updateMasterKey_Should_EvictCachedKeys() throws CustomCryptoException {
+    encryptionService.encrypt(MESSAGE_PLAIN, KEY_SESSION);
+
+    encryptionService.updateMasterKey("OtherMasterKey");
+
+    Assert.assertNotEquals(MESSAGE_ENCRYPTED, encryptionService.encrypt(MESSAGE_PLAIN, KEY_SESSION));
+  }
+
+  @Test
+  public void encryptAndDecrypt_Should_ReturnConsistentResults_WhenCalledConcurrently() {
+    var allMatch = IntStream.range(0, 1_000).parallel().allMatch(i -> {
+      try {
+        var secret = KEY_SESSION + (i % 10);
+        var message = MESSAGE_PLAIN + i;
+        return message.equals(
+            encryptionService.decrypt(encryptionService.encrypt(message, secret), secret));
+      } catch (CustomCryptoException e) {
+        return false;
+      }
+    });
+
+    assertTrue(allMatch);
+  }
+
+  @Test
+  public void decryptAll_Should_ReturnDecryptedTextsInOrder_WhenProvidedWithValidParameters()
+      throws CustomCryptoException {
+    var otherMessage = encryptionService.encrypt("Zweite Nachricht äöü", KEY_SESSION);
+
+    List<String> decryptedMessages = encryptionService.decryptAll(
+        List.of(MESSAGE_ENCRYPTED, otherMessage, MESSAGE_ENCRYPTED), KEY_SESSION);
+
+    assertEquals(List.of(MESSAGE_PLAIN, "Zweite Nachricht äöü", MESSAGE_PLAIN), decryptedMessages);
+  }
+
+  @Test
+  public void decryptAll_Should_ReturnUnencryptedMessagesUntouched() throws CustomCryptoException {
+    var plainMessage = "not encrypted";
+
+    List<String> decryptedMessages = encryptionService.decryptAll(
+        Arrays.asList(null, plainMessage, MESSAGE_ENCRYPTED), KEY_SESSION);
+
+    assertNull(decryptedMessages.get(0));
+    Assert.assertSame(plainMessage, decryptedMessages.get(1));
+    assertEquals(MESSAGE_PLAIN, decryptedMessages.get(2));
+  }
+
+  @Test(expected = CustomCryptoException.class)
+  public void decryptAll_Should_ThrowCustomCryptoException_WhenProvidedWithInvalidSecret()
+      throws CustomCryptoException {
+    encryptionService.decryptAll(List.of(MESSAGE_ENCRYPTED), KEY_SESSION_WRONG);
+  }
+
 }
@@ -0,0 +1,78 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class LiveEventDispatcherTest {
+
+  private static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+  private static final String OTHER_RC_GROUP_ID = "xN7vK2mQpA3bC4dEf";
+  private static final Optional<Long> TENANT_ID = Optional.of(1L);
+
+  private LiveEventNotificationService liveEventNotificationService;
+
+  private LiveEventDispatcher liveEventDispatcher;
+
+  @BeforeEach
+  void setup() {
+    liveEventNotificationService = Mockito.mock(LiveEventNotificationService.class);
+    liveEventDispatcher = new LiveEventDispatcher(liveEventNotificationService);
+  }
+
+  @Test
+  void dispatchLiveEvent_Should_NotSendLiveEvent_When_NotFlushed() {
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+
+    verifyNoInteractions(liveEventNotificationService);
+    assertEquals(1, liveEventDispatcher.pendingLiveEventCount());
+  }
+
+  @Test
+  void flush_Should_SendOneLiveEventPerGroup_When_DispatchedSeveralTimes() {
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    liveEventDispatcher.dispatchLiveEvent(OTHER_RC_GROUP_ID, "token", TENANT_ID);
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+
+    liveEventDispatcher.flush();
+    liveEventDispatcher.flush();
+
+    verify(liveEventNotificationService).sendLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    verify(liveEventNotificationService).sendLiveEvent(OTHER_RC_GROUP_ID, "token", TENANT_ID);
+    verify(liveEventNotificationService, times(2)).sendLiveEvent(anyString(), anyString(), any());
+    assertEquals(0, liveEventDispatcher.pendingLiveEventCount());
+  }
+
+  @Test
+  void flush_Should_SendOneLiveEventPerSender_When_SeveralUsersPostToGroup() {
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "otherToken", TENANT_ID);
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+
+    liveEventDispatcher.flush();
+
+    verify(liveEventNotificationService).sendLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    verify(liveEventNotificationService).sendLiveEvent(RC_GROUP_ID, "otherToken", TENANT_ID);
+    verify(liveEventNotificationService, times(2)).sendLiveEvent(anyString(), anyString(), any());
+  }
+
+  @Test
+  void flush_Should_SendLiveEventAgain_When_DispatchedAfterFlush() {
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    liveEventDispatcher.flush();
+    liveEventDispatcher.dispatchLiveEvent(RC_GROUP_ID, "token", TENANT_ID);
+    liveEventDispatcher.flush();
+
+    verify(liveEventNotificationService, times(2))
+        .sendLiveEvent(eq(RC_GROUP_ID), anyString(), any());
+  }
+}
@@ -1,18 +1,20 @@
 package de.caritas.cob.messageservice.api.service;
 
+import static de.caritas.cob.messageservice.testhelper.LoggerHelper.setLogger;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 import de.caritas.cob.messageservice.api.service.helper.ServiceHelper;
 import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
-import de.caritas.cob.messageservice.userservice.generated.ApiClient;
+import de.caritas.cob.messageservice.config.apiclient.UserApiClient;
 import de.caritas.cob.messageservice.userservice.generated.web.LiveproxyControllerApi;
 import java.util.Optional;
 import org.junit.Before;
@@ -23,11 +25,15 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
 import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.client.MockRestServiceServer;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 
 @RunWith(MockitoJUnitRunner.class)
 public class LiveEventNotificationServiceTest {
 
+  private static final String USER_SERVICE_BASE_PATH = "http://userservice";
+
   @InjectMocks private LiveEventNotificationService liveEventNotificationService;
 
   @Mock private LiveproxyControllerApi liveproxyControllerApi;
@@ -37,7 +43,7 @@ public class LiveEventNotificationServiceTest {
 
   @Before
   public void setup() {
-    setInternalState(LogService.class, "LOGGER", logger);
+    setLogger(LogService.class, logger);
     when(clientFactory.liveproxyControllerApi()).thenReturn(liveproxyControllerApi);
   }
 
@@ -59,8 +65,14 @@ public class LiveEventNotificationServiceTest {
 
   @Test
   public void sendLiveEvent_Should_triggerLiveEventWithHeaders_When_rcGroupIdIsValid() {
-    ApiClient apiClient = mock(ApiClient.class);
-    when(this.liveproxyControllerApi.getApiClient()).thenReturn(apiClient);
+    var restTemplate = new RestTemplate();
+    var server = MockRestServiceServer.bindTo(restTemplate).build();
+    when(clientFactory.liveproxyControllerApi()).thenReturn(new LiveproxyControllerApi(
+        new UserApiClient(restTemplate).setBasePath(USER_SERVICE_BASE_PATH)));
+    server.expect(requestTo(USER_SERVICE_BASE_PATH + "/liveproxy/send?rcGroupId=valid"))
+        .andExpect(header("header 1", "value 1"))
+        .andExpect(header("header 2", "value 2"))
+        .andRespond(withSuccess());
     HttpHeaders headers = new HttpHeaders();
     headers.add("header 1", "value 1");
     headers.add("header 2", "value 2");
@@ -69,9 +81,8 @@ public class LiveEventNotificationServiceTest {
 
     this.liveEventNotificationService.sendLiveEvent("valid", "", Optional.empty());
 
-    verify(this.liveproxyControllerApi, times(1)).sendLiveEvent("valid");
+    server.verify();
     verify(this.serviceHelper, times(1)).getKeycloakAndCsrfAndOriginHttpHeaders(anyString(), any());
-    verify(apiClient, times(2)).addDefaultHeader(anyString(), anyString());
   }
 
   @Test
@@ -79,7 +90,6 @@ public class LiveEventNotificationServiceTest {
     doThrow(new RestClientException(""))
         .when(this.liveproxyControllerApi)
         .sendLiveEvent(anyString());
-    when(this.liveproxyControllerApi.getApiClient()).thenReturn(mock(ApiClient.class));
     when(serviceHelper.getKeycloakAndCsrfAndOriginHttpHeaders(anyString(), any(Optional.class)))
         .thenReturn(new HttpHeaders());
 
@@ -1,5 +1,6 @@
 package de.caritas.cob.messageservice.api.service;
 
+import static de.caritas.cob.messageservice.testhelper.LoggerHelper.setLogger;
 import static org.apache.commons.lang3.exception.ExceptionUtils.getStackTrace;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -7,7 +8,6 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
-import static org.powermock.reflect.Whitebox.setInternalState;
 
 import java.io.PrintWriter;
 import org.junit.Before;
@@ -35,7 +35,7 @@ public class LogServiceTest {
 
   @Before
   public void setup() {
-    setInternalState(LogService.class, "LOGGER", logger);
+    setLogger(LogService.class, logger);
   }
 
   @Test
@@ -0,0 +1,82 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import de.caritas.cob.messageservice.api.exception.InternalServerErrorException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MarkAsReadServiceTest {
+
+  private static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+  private static final String OTHER_RC_GROUP_ID = "xN7vK2mQpA3bC4dEf";
+
+  private RocketChatService rocketChatService;
+
+  private MarkAsReadService markAsReadService;
+
+  @BeforeEach
+  void setup() {
+    rocketChatService = Mockito.mock(RocketChatService.class);
+    markAsReadService = new MarkAsReadService(rocketChatService);
+    ReflectionTestUtils.setField(markAsReadService, "maxAttempts", 3);
+  }
+
+  @Test
+  void markGroupAsReadForSystemUser_Should_NotCallRocketChat_When_NotFlushed() {
+    markAsReadService.markGroupAsReadForSystemUser(RC_GROUP_ID);
+
+    verifyNoInteractions(rocketChatService);
+  }
+
+  @Test
+  void flush_Should_MarkEachGroupAsReadOnce_When_ScheduledSeveralTimes() {
+    markAsReadService.markGroupAsReadForSystemUser(RC_GROUP_ID);
+    markAsReadService.markGroupAsReadForSystemUser(OTHER_RC_GROUP_ID);
+    markAsReadService.markGroupAsReadForSystemUser(RC_GROUP_ID);
+
+    markAsReadService.flush();
+    markAsReadService.flush();
+
+    verify(rocketChatService).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    verify(rocketChatService).markGroupAsReadForSystemUser(OTHER_RC_GROUP_ID);
+    assertEquals(0, markAsReadService.pendingGroupCount());
+  }
+
+  @Test
+  void flush_Should_RetryInNextFlush_When_MarkingAsReadFailed() {
+    doThrow(new InternalServerErrorException()).doNothing()
+        .when(rocketChatService).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    markAsReadService.markGroupAsReadForSystemUser(RC_GROUP_ID);
+
+    markAsReadService.flush();
+    verify(rocketChatService, times(1)).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    assertEquals(1, markAsReadService.pendingGroupCount());
+
+    markAsReadService.flush();
+    verify(rocketChatService, times(2)).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    assertEquals(0, markAsReadService.pendingGroupCount());
+  }
+
+  @Test
+  void flush_Should_GiveUp_When_MaxAttemptsReached() {
+    doThrow(new InternalServerErrorException())
+        .when(rocketChatService).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    markAsReadService.markGroupAsReadForSystemUser(RC_GROUP_ID);
+
+    for (var i = 0; i < 5; i++) {
+      markAsReadService.flush();
+    }
+
+    verify(rocketChatService, times(3)).markGroupAsReadForSystemUser(RC_GROUP_ID);
+    verify(rocketChatService, never()).markGroupAsReadForSystemUser(OTHER_RC_GROUP_ID);
+    assertEquals(0, markAsReadService.pendingGroupCount());
+  }
+}
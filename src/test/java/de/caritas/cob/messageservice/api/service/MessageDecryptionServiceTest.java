@@ -0,0 +1,122 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class MessageDecryptionServiceTest {
+
+  private static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+
+  private EncryptionService encryptionService;
+
+  private MessageDecryptionService messageDecryptionService;
+
+  @BeforeEach
+  void setup() {
+    encryptionService = Mockito.spy(new EncryptionService());
+    ReflectionTestUtils.setField(encryptionService, "fragment_applicationKey", "appKey");
+    encryptionService.updateMasterKey("masterKey");
+
+    messageDecryptionService = new MessageDecryptionService(encryptionService);
+    ReflectionTestUtils.setField(messageDecryptionService, "parallelDecryptionEnabled", true);
+    ReflectionTestUtils.setField(messageDecryptionService, "parallelDecryptionMinPageSize", 10);
+    ReflectionTestUtils.setField(messageDecryptionService, "parallelDecryptionPoolSize", 3);
+    ReflectionTestUtils.setField(messageDecryptionService, "parallelDecryptionQueueCapacity", 1);
+    messageDecryptionService.initializeExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    messageDecryptionService.shutdownExecutor();
+  }
+
+  @Test
+  void decryptAll_Should_DecryptSequentially_When_PageIsSmallerThanMinPageSize()
+      throws CustomCryptoException {
+    var messages = givenEncryptedMessages(9);
+
+    var decryptedMessages = messageDecryptionService.decryptAll(messages, RC_GROUP_ID);
+
+    assertEquals(expectedMessages(9), decryptedMessages);
+    verify(encryptionService).decryptAll(messages, RC_GROUP_ID);
+  }
+
+  @Test
+  void decryptAll_Should_DecryptChunksInParallelAndKeepOrder_When_PageIsLarge()
+      throws CustomCryptoException {
+    var messages = givenEncryptedMessages(100);
+
+    var decryptedMessages = messageDecryptionService.decryptAll(messages, RC_GROUP_ID);
+
+    assertEquals(expectedMessages(100), decryptedMessages);
+    verify(encryptionService, times(3)).decryptAll(anyList(), eq(RC_GROUP_ID));
+  }
+
+  @Test
+  void decryptAll_Should_ThrowCustomCryptoException_When_DecryptionOfAChunkFails() {
+    var messages = givenEncryptedMessages(100);
+
+    assertThrows(CustomCryptoException.class,
+        () -> messageDecryptionService.decryptAll(messages, "otherGroupId"));
+  }
+
+  @Test
+  void decryptAll_Should_DecryptSequentially_When_ParallelDecryptionIsDisabled()
+      throws CustomCryptoException {
+    messageDecryptionService.shutdownExecutor();
+    ReflectionTestUtils.setField(messageDecryptionService, "parallelDecryptionEnabled", false);
+    ReflectionTestUtils.setField(messageDecryptionService, "decryptionExecutor", null);
+    messageDecryptionService.initializeExecutor();
+    var messages = givenEncryptedMessages(100);
+
+    var decryptedMessages = messageDecryptionService.decryptAll(messages, RC_GROUP_ID);
+
+    assertEquals(expectedMessages(100), decryptedMessages);
+    verify(encryptionService).decryptAll(messages, RC_GROUP_ID);
+  }
+
+  @Test
+  void decryptsInParallel_Should_OnlyApplyToPagesOfMinPageSize_When_ParallelDecryptionIsEnabled() {
+    assertFalse(messageDecryptionService.decryptsInParallel(9));
+    assertTrue(messageDecryptionService.decryptsInParallel(10));
+
+    messageDecryptionService.shutdownExecutor();
+    ReflectionTestUtils.setField(messageDecryptionService, "decryptionExecutor", null);
+
+    assertFalse(messageDecryptionService.decryptsInParallel(10));
+  }
+
+  private List<String> givenEncryptedMessages(int count) {
+    return expectedMessages(count).stream()
+        .map(message -> {
+          try {
+            return encryptionService.encrypt(message, RC_GROUP_ID);
+          } catch (CustomCryptoException e) {
+            throw new IllegalStateException(e);
+          }
+        })
+        .collect(Collectors.toList());
+  }
+
+  private List<String> expectedMessages(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> "message " + i)
+        .collect(Collectors.toList());
+  }
+}
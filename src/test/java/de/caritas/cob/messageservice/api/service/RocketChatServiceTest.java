@@ -1,6 +1,7 @@
 package de.caritas.cob.messageservice.api.service;
 
 import static de.caritas.cob.messageservice.api.service.RocketChatService.E2E_ENCRYPTION_TYPE;
+import static de.caritas.cob.messageservice.testhelper.LoggerHelper.setLogger;
 import static de.caritas.cob.messageservice.testhelper.RocketChatFieldConstants.FIELD_NAME_RC_GET_GROUP_INFO_URL;
 import static de.caritas.cob.messageservice.testhelper.RocketChatFieldConstants.FIELD_VALUE_RC_GET_GROUP_INFO_URL;
 import static de.caritas.cob.messageservice.testhelper.RocketChatFieldConstants.FIELD_VALUE_RC_POST_GROUP_MESSAGES_READ;
@@ -13,15 +14,18 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
 
 import de.caritas.cob.messageservice.api.exception.CustomCryptoException;
 import de.caritas.cob.messageservice.api.exception.InternalServerErrorException;
@@ -39,6 +43,7 @@ import de.caritas.cob.messageservice.api.model.rocket.chat.message.MessagesDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResponseDTO;
 import de.caritas.cob.messageservice.api.model.rocket.chat.message.SendMessageResultDTO;
 import de.caritas.cob.messageservice.api.service.helper.RocketChatCredentialsHelper;
+import de.caritas.cob.messageservice.api.service.helper.RocketChatMessageCache;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
@@ -87,6 +92,13 @@ public class RocketChatServiceTest {
   @Mock
   private EncryptionService encryptionService;
 
+  @Mock
+  private MessageDecryptionService messageDecryptionService;
+
+  @Mock
+  @SuppressWarnings("unused")
+  private RocketChatMessageCache rocketChatMessageCache;
+
   @Mock
   RocketChatCredentialsHelper rcCredentialsHelper;
 
@@ -108,7 +120,7 @@ public class RocketChatServiceTest {
     Whitebox.setInternalState(rocketChatService, "rcSendMessageUrl", "http://localhost/api/v1/chat.sendMessage");
     Whitebox.setInternalState(rocketChatService, "rcPostGroupMessagesRead", FIELD_VALUE_RC_POST_GROUP_MESSAGES_READ);
     Whitebox.setInternalState(rocketChatService, FIELD_NAME_RC_GET_GROUP_INFO_URL, FIELD_VALUE_RC_GET_GROUP_INFO_URL);
-    setInternalState(LogService.class, "LOGGER", logger);
+    setLogger(LogService.class, logger);
   }
 
   @Test(expected = InternalServerErrorException.class)
@@ -140,13 +152,10 @@ public class RocketChatServiceTest {
     MessageStreamDTO messageStreamDTO = easyRandom.nextObject(MessageStreamDTO.class);
     messageStreamDTO.setMessages(easyRandom.objects(MessagesDTO.class, 5)
         .collect(Collectors.toList()));
-    ResponseEntity<MessageStreamDTO> response = new ResponseEntity<>(messageStreamDTO,
-        HttpStatus.OK);
     CustomCryptoException exception = new CustomCryptoException(new Exception());
 
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any())).thenReturn(response);
-    when(encryptionService.decrypt(anyString(), anyString())).thenThrow(exception);
+    givenMessageStream(messageStreamDTO);
+    when(messageDecryptionService.decryptAll(anyList(), anyString())).thenThrow(exception);
 
     rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID, 0, 0, Instant.now());
   }
@@ -157,10 +166,7 @@ public class RocketChatServiceTest {
     Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
 
     List<MessagesDTO> messages = new ArrayList<>();
-    ResponseEntity<MessageStreamDTO> entity = new ResponseEntity<>(
-        new MessageStreamDTO().messages(messages), HttpStatus.OK);
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any())).thenReturn(entity);
+    givenMessageStream(new MessageStreamDTO().messages(messages));
 
     rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID, 0, 0, Instant.now());
 
@@ -169,26 +175,38 @@ public class RocketChatServiceTest {
   }
 
   @Test
-  public void getGroupMessages_Should_DecryptAllMessages() throws CustomCryptoException {
+  public void getGroupMessages_Should_ReturnNoMessages_When_RocketChatReturnsNoMessages() {
+    Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
+    givenMessageStream(new MessageStreamDTO());
+
+    var result = rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID, 0, 0,
+        Instant.now());
+
+    assertTrue(result.getMessages().isEmpty());
+  }
+
+  @Test
+  public void getGroupMessages_Should_DecryptAllMessages()
+      throws CustomCryptoException {
     Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
 
     EasyRandom easyRandom = new EasyRandom();
     MessageStreamDTO messageStreamDTO = easyRandom.nextObject(MessageStreamDTO.class);
     messageStreamDTO.setMessages(easyRandom.objects(MessagesDTO.class, 5)
         .collect(Collectors.toList()));
-    ResponseEntity<MessageStreamDTO> response = new ResponseEntity<>(messageStreamDTO,
-        HttpStatus.OK);
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any())).thenReturn(response);
+    givenMessageStream(messageStreamDTO);
+    when(messageDecryptionService.decryptAll(anyList(), anyString())).then(returnsFirstArg());
 
     rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID, 0, 0, Instant.now());
 
-    verify(encryptionService, times(5)).decrypt(anyString(), anyString());
+    verify(messageDecryptionService).decryptAll(argThat(messages -> messages.size() == 5),
+        eq(RC_GROUP_ID));
+    verify(encryptionService, never()).decrypt(anyString(), anyString());
   }
 
   @Test
   public void getGroupMessages_Should_SetForwardAsMessageType_ForForwardedMessages()
-      throws NoSuchFieldException {
+      throws NoSuchFieldException, CustomCryptoException {
     Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
     EasyRandom easyRandom = new EasyRandom();
     MessageStreamDTO messageStreamDTO = easyRandom.nextObject(MessageStreamDTO.class);
@@ -205,10 +223,8 @@ public class RocketChatServiceTest {
             .thenReturn(mapper.messageTypeOf(messagesDTO.getAlias()));
     });
 
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any()))
-        .thenReturn(new ResponseEntity<>(messageStreamDTO,
-            HttpStatus.OK));
+    givenMessageStream(messageStreamDTO);
+    when(messageDecryptionService.decryptAll(anyList(), anyString())).then(returnsFirstArg());
 
     MessageStreamDTO result = rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID,
         0, 0, Instant.now());
@@ -218,7 +234,7 @@ public class RocketChatServiceTest {
 
   @Test
   public void getGroupMessages_Should_SetVideocallAsMessageType_ForVideocallMessages()
-      throws NoSuchFieldException {
+      throws NoSuchFieldException, CustomCryptoException {
 
     Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
     EasyRandom easyRandom = new EasyRandom();
@@ -236,10 +252,8 @@ public class RocketChatServiceTest {
           .thenReturn(mapper.messageTypeOf(messagesDTO.getAlias()));
     });
 
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any()))
-        .thenReturn(new ResponseEntity<>(messageStreamDTO,
-            HttpStatus.OK));
+    givenMessageStream(messageStreamDTO);
+    when(messageDecryptionService.decryptAll(anyList(), anyString())).then(returnsFirstArg());
 
     MessageStreamDTO result = rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID,
         0, 0, Instant.now());
@@ -249,7 +263,7 @@ public class RocketChatServiceTest {
 
   @Test
   public void getGroupMessages_Should_SetFurtherStepsAsMessageType_ForFurtherStepsMessages()
-      throws NoSuchFieldException {
+      throws NoSuchFieldException, CustomCryptoException {
     Whitebox.setInternalState(rocketChatService, "rcGetGroupMessageUrl", "http://localhost/api/v1/groups.messages");
     EasyRandom easyRandom = new EasyRandom();
     MessageStreamDTO messageStreamDTO = easyRandom.nextObject(MessageStreamDTO.class);
@@ -267,10 +281,8 @@ public class RocketChatServiceTest {
           .thenReturn(mapper.messageTypeOf(messagesDTO.getAlias()));
     });
 
-    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
-        ArgumentMatchers.<Class<MessageStreamDTO>>any()))
-        .thenReturn(new ResponseEntity<>(messageStreamDTO,
-            HttpStatus.OK));
+    givenMessageStream(messageStreamDTO);
+    when(messageDecryptionService.decryptAll(anyList(), anyString())).then(returnsFirstArg());
 
     MessageStreamDTO result = rocketChatService.getGroupMessages(RC_TOKEN, RC_USER_ID, RC_GROUP_ID,
         0, 0, Instant.now());
@@ -426,4 +438,10 @@ public class RocketChatServiceTest {
 
     this.rocketChatService.postAliasOnlyMessageAsSystemUser(RC_GROUP_ID, aliasMessageDTO);
   }
+
+  private void givenMessageStream(MessageStreamDTO messageStreamDTO) {
+    when(restTemplate.exchange(any(), any(HttpMethod.class), any(),
+        ArgumentMatchers.<Class<MessageStreamDTO>>any()))
+        .thenReturn(new ResponseEntity<>(messageStreamDTO, HttpStatus.OK));
+  }
 }
@@ -0,0 +1,102 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.messageservice.config.CacheManagerConfig;
+import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
+import de.caritas.cob.messageservice.userservice.generated.web.UserControllerApi;
+import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionListResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.SessionUserDTO;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("testing")
+class SessionServiceIT {
+
+  private static final String RC_TOKEN = "rcToken";
+  private static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+
+  @Autowired
+  private SessionService underTest;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @MockBean
+  private ApiControllerFactory clientFactory;
+
+  @MockBean
+  private SecurityHeaderSupplier securityHeaderSupplier;
+
+  @MockBean
+  private UserControllerApi userControllerApi;
+
+  @BeforeEach
+  void setup() {
+    Objects.requireNonNull(cacheManager.getCache(CacheManagerConfig.SESSION_CACHE)).clear();
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
+  }
+
+  @Test
+  void findAdviceseekerUserIdShouldAskUserServiceOnlyOncePerGroup() {
+    givenSessionOf("adviceseekerId");
+
+    underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID);
+    var adviceseekerId = underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID);
+
+    assertEquals("adviceseekerId", adviceseekerId);
+    verify(userControllerApi, times(1))
+        .getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList());
+  }
+
+  @Test
+  void findAdviceseekerUserIdShouldAskUserServiceAgainWhenGroupBelongedToNoSession() {
+    when(userControllerApi.getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList()))
+        .thenReturn(new GroupSessionListResponseDTO());
+
+    assertNull(underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID));
+    givenSessionOf("adviceseekerId");
+    var adviceseekerId = underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID);
+
+    assertEquals("adviceseekerId", adviceseekerId);
+    verify(userControllerApi, times(2))
+        .getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList());
+  }
+
+  @Test
+  void findAdviceseekerUserIdShouldAskUserServiceAgainAfterEviction() {
+    givenSessionOf("adviceseekerId");
+
+    underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID);
+    underTest.evictAdviceseekerUserId(RC_GROUP_ID);
+    givenSessionOf("otherAdviceseekerId");
+    var adviceseekerId = underTest.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID);
+
+    assertEquals("otherAdviceseekerId", adviceseekerId);
+    verify(userControllerApi, times(2))
+        .getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList());
+  }
+
+  private void givenSessionOf(String adviceseekerId) {
+    when(userControllerApi.getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList()))
+        .thenReturn(new GroupSessionListResponseDTO().sessions(List.of(
+            new GroupSessionResponseDTO().user(new SessionUserDTO().id(adviceseekerId)))));
+  }
+}
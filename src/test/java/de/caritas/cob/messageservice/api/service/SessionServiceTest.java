@@ -0,0 +1,69 @@
+package de.caritas.cob.messageservice.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.messageservice.config.apiclient.ApiControllerFactory;
+import de.caritas.cob.messageservice.userservice.generated.web.UserControllerApi;
+import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionListResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.GroupSessionResponseDTO;
+import de.caritas.cob.messageservice.userservice.generated.web.model.SessionUserDTO;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class SessionServiceTest {
+
+  private static final String RC_TOKEN = "rcToken";
+  private static final String RC_GROUP_ID = "fR2Rz7dmWmHdXE8uz";
+
+  private UserControllerApi userControllerApi;
+
+  private SessionService sessionService;
+
+  @BeforeEach
+  void setup() {
+    var securityHeaderSupplier = mock(SecurityHeaderSupplier.class);
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    var clientFactory = mock(ApiControllerFactory.class);
+    userControllerApi = mock(UserControllerApi.class);
+    when(clientFactory.userControllerApi()).thenReturn(userControllerApi);
+
+    sessionService = new SessionService(securityHeaderSupplier, mock(TenantHeaderSupplier.class),
+        clientFactory);
+  }
+
+  @Test
+  void findAdviceseekerUserId_Should_ReturnUserIdOfFirstSession() {
+    givenSessions(new GroupSessionListResponseDTO().sessions(List.of(
+        new GroupSessionResponseDTO().user(new SessionUserDTO().id("adviceseekerId")),
+        new GroupSessionResponseDTO().user(new SessionUserDTO().id("otherId")))));
+
+    assertEquals("adviceseekerId", sessionService.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID));
+  }
+
+  @Test
+  void findAdviceseekerUserId_Should_ReturnNull_When_GroupBelongsToNoSession() {
+    givenSessions(new GroupSessionListResponseDTO());
+
+    assertNull(sessionService.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID));
+  }
+
+  @Test
+  void findAdviceseekerUserId_Should_ReturnNull_When_SessionHasNoUser() {
+    givenSessions(new GroupSessionListResponseDTO().sessions(
+        List.of(new GroupSessionResponseDTO())));
+
+    assertNull(sessionService.findAdviceseekerUserId(RC_TOKEN, RC_GROUP_ID));
+  }
+
+  private void givenSessions(GroupSessionListResponseDTO sessions) {
+    when(userControllerApi.getSessionsForGroupOrFeedbackGroupIds(anyString(), anyList()))
+        .thenReturn(sessions);
+  }
+}
@@ -0,0 +1,100 @@
+package de.caritas.cob.messageservice.api.service.helper;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.messageservice.api.service.dto.Message;
+import de.caritas.cob.messageservice.config.CacheManagerConfig;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class RocketChatMessageCacheTest {
+
+  private static final String MESSAGE_ID = "xN7vK2mQpA3bC4dEf";
+  private static final String RC_USER_ID = "rcUserId";
+  private static final String OTHER_RC_USER_ID = "otherRcUserId";
+
+  private RocketChatMessageCache messageCache;
+
+  @BeforeEach
+  void setup() {
+    messageCache = new RocketChatMessageCache(
+        new ConcurrentMapCacheManager(CacheManagerConfig.MESSAGE_CACHE), new ObjectMapper());
+    messageCache.initialize();
+  }
+
+  @Test
+  void find_Should_ReturnNewInstanceOfMessageReadByUser() {
+    var message = message("enc:content");
+    messageCache.put(RC_USER_ID, message);
+    message.setMsg("decrypted content");
+
+    var cachedMessage = messageCache.find(RC_USER_ID, MESSAGE_ID).orElseThrow();
+
+    assertNotSame(message, cachedMessage);
+    assertEquals("enc:content", cachedMessage.getMsg());
+    assertEquals("rcGroupId", cachedMessage.getRid());
+    assertEquals("reassign", cachedMessage.getOtherProperties().get("t"));
+  }
+
+  @Test
+  void find_Should_ReturnEmpty_When_UserHasNotReadMessage() {
+    messageCache.put(RC_USER_ID, message("enc:content"));
+
+    assertTrue(messageCache.find(OTHER_RC_USER_ID, MESSAGE_ID).isEmpty());
+  }
+
+  @Test
+  void put_Should_KeepUsersWhoReadMessageBefore() {
+    messageCache.put(RC_USER_ID, message("enc:content"));
+    messageCache.put(OTHER_RC_USER_ID, message("enc:content"));
+
+    assertTrue(messageCache.find(RC_USER_ID, MESSAGE_ID).isPresent());
+    assertTrue(messageCache.find(OTHER_RC_USER_ID, MESSAGE_ID).isPresent());
+  }
+
+  @Test
+  void evict_Should_RemoveMessageForAllUsers() {
+    messageCache.put(RC_USER_ID, message("enc:content"));
+    messageCache.put(OTHER_RC_USER_ID, message("enc:content"));
+
+    messageCache.evict(MESSAGE_ID);
+
+    assertTrue(messageCache.find(RC_USER_ID, MESSAGE_ID).isEmpty());
+    assertTrue(messageCache.find(OTHER_RC_USER_ID, MESSAGE_ID).isEmpty());
+  }
+
+  @Test
+  void put_Should_NotCacheMessage_When_MessageHasBeenEvictedMeanwhile() {
+    messageCache.put(RC_USER_ID, message("enc:content"));
+
+    messageCache.evict(MESSAGE_ID);
+    messageCache.put(OTHER_RC_USER_ID, message("enc:content"));
+
+    assertTrue(messageCache.find(RC_USER_ID, MESSAGE_ID).isEmpty());
+    assertTrue(messageCache.find(OTHER_RC_USER_ID, MESSAGE_ID).isEmpty());
+  }
+
+  @Test
+  void put_Should_KeepAllUsers_When_UsersReadMessageConcurrently() {
+    var userIds = IntStream.range(0, 50).mapToObj(i -> "rcUserId" + i).collect(toList());
+
+    userIds.parallelStream().forEach(userId -> messageCache.put(userId, message("enc:content")));
+
+    userIds.forEach(userId -> assertTrue(messageCache.find(userId, MESSAGE_ID).isPresent()));
+  }
+
+  private static Message message(String content) {
+    var message = new Message();
+    message.setId(MESSAGE_ID);
+    message.setRid("rcGroupId");
+    message.setMsg(content);
+    message.getOtherProperties().put("t", "reassign");
+    return message;
+  }
+}
@@ -0,0 +1,147 @@
+package de.caritas.cob.messageservice.api.service.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.rabbitmq.client.ConnectionFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StatisticsEventPublisherTest {
+
+  private static final String EXCHANGE = "statistics.topic";
+  private static final String ROUTING_KEY = "CREATE_MESSAGE";
+
+  private RabbitTemplate rabbitTemplate;
+  private RabbitOperations rabbitOperations;
+  private SimpleMeterRegistry meterRegistry;
+
+  private StatisticsEventPublisher statisticsEventPublisher;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setup() {
+    rabbitTemplate = mock(RabbitTemplate.class);
+    rabbitOperations = mock(RabbitOperations.class);
+    var connectionFactory = mock(CachingConnectionFactory.class);
+    when(connectionFactory.getRabbitConnectionFactory()).thenReturn(new ConnectionFactory());
+    when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+        invocation.getArgument(0, OperationsCallback.class).doInRabbit(rabbitOperations));
+    meterRegistry = new SimpleMeterRegistry();
+
+    statisticsEventPublisher = new StatisticsEventPublisher(connectionFactory, meterRegistry);
+    ReflectionTestUtils.setField(statisticsEventPublisher, "rabbitMqExchangeName", EXCHANGE);
+    ReflectionTestUtils.setField(statisticsEventPublisher, "queueCapacity", 3);
+    ReflectionTestUtils.setField(statisticsEventPublisher, "batchSize", 2);
+    ReflectionTestUtils.setField(statisticsEventPublisher, "confirmTimeoutMillis", 1000L);
+    ReflectionTestUtils.setField(statisticsEventPublisher, "maxAttempts", 2);
+    statisticsEventPublisher.initialize();
+    ReflectionTestUtils.setField(statisticsEventPublisher, "rabbitTemplate", rabbitTemplate);
+  }
+
+  @Test
+  void publish_Should_NotSendMessage_When_NotFlushed() {
+    statisticsEventPublisher.publish(ROUTING_KEY, message());
+
+    verifyNoInteractions(rabbitTemplate);
+    assertEquals(1, meterRegistry.get("statistics.publisher.queue.size").gauge().value());
+  }
+
+  @Test
+  void flush_Should_SendQueuedMessagesInBatchesAndWaitForConfirms() {
+    var message = message();
+    for (var i = 0; i < 3; i++) {
+      statisticsEventPublisher.publish(ROUTING_KEY, message);
+    }
+
+    statisticsEventPublisher.flush();
+
+    verify(rabbitTemplate, times(2)).invoke(any());
+    verify(rabbitOperations, times(3)).send(EXCHANGE, ROUTING_KEY, message);
+    verify(rabbitOperations, times(2)).waitForConfirmsOrDie(1000L);
+    assertEquals(2, meterRegistry.get("statistics.publisher.batch.size").summary().count());
+    assertEquals(3, publishedCount("published"));
+    assertEquals(0, meterRegistry.get("statistics.publisher.queue.size").gauge().value());
+  }
+
+  @Test
+  void flush_Should_RetryFailedBatchWithNextFlush() {
+    doThrow(new AmqpIOException(new IOException())).doAnswer(invocation ->
+        invocation.getArgument(0, OperationsCallback.class).doInRabbit(rabbitOperations))
+        .when(rabbitTemplate).invoke(any());
+    var message = message();
+    statisticsEventPublisher.publish(ROUTING_KEY, message);
+    statisticsEventPublisher.publish(ROUTING_KEY, message);
+
+    statisticsEventPublisher.flush();
+    statisticsEventPublisher.flush();
+
+    verify(rabbitOperations, times(2)).send(EXCHANGE, ROUTING_KEY, message);
+    assertEquals(2, publishedCount("published"));
+    assertEquals(0, publishedCount("failed"));
+  }
+
+  @Test
+  void flush_Should_KeepQueuedMessages_When_PublishingFails() {
+    doThrow(new AmqpIOException(new IOException())).when(rabbitTemplate).invoke(any());
+    for (var i = 0; i < 3; i++) {
+      statisticsEventPublisher.publish(ROUTING_KEY, message());
+    }
+
+    statisticsEventPublisher.flush();
+
+    verify(rabbitTemplate, times(1)).invoke(any());
+    assertEquals(1, meterRegistry.get("statistics.publisher.queue.size").gauge().value());
+  }
+
+  @Test
+  void flush_Should_CountFailedMessages_When_PublishingFailsForAllAttempts() {
+    doThrow(new AmqpIOException(new IOException())).when(rabbitTemplate).invoke(any());
+    statisticsEventPublisher.publish(ROUTING_KEY, message());
+    statisticsEventPublisher.publish(ROUTING_KEY, message());
+
+    statisticsEventPublisher.flush();
+    assertEquals(0, publishedCount("failed"));
+    statisticsEventPublisher.flush();
+
+    verify(rabbitTemplate, times(2)).invoke(any());
+    assertEquals(2, publishedCount("failed"));
+    assertEquals(0, publishedCount("published"));
+  }
+
+  @Test
+  void publish_Should_DropMessage_When_QueueIsFull() {
+    for (var i = 0; i < 4; i++) {
+      statisticsEventPublisher.publish(ROUTING_KEY, message());
+    }
+
+    assertEquals(1, publishedCount("dropped"));
+    assertEquals(3, meterRegistry.get("statistics.publisher.queue.size").gauge().value());
+  }
+
+  private double publishedCount(String result) {
+    return meterRegistry.get("statistics.publisher.messages").tag("result", result).counter()
+        .count();
+  }
+
+  private static Message message() {
+    return MessageBuilder.withBody("{}".getBytes(StandardCharsets.UTF_8)).build();
+  }
+}
@@ -1,12 +1,12 @@
 package de.caritas.cob.messageservice.api.service.statistics;
 
+import static de.caritas.cob.messageservice.testhelper.LoggerHelper.setLogger;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.messageservice.api.service.LogService;
@@ -22,31 +22,27 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
-import org.springframework.messaging.Message;
 
 @RunWith(MockitoJUnitRunner.class)
 public class StatisticsServiceTest {
 
   private static final String FIELD_NAME_STATISTICS_ENABLED = "statisticsEnabled";
-  private static final String FIELD_NAME_RABBIT_EXCHANGE_NAME = "rabbitMqExchangeName";
-  private static final String RABBIT_EXCHANGE_NAME = "exchange";
   private static final String PAYLOAD = "payload";
   @Mock Logger logger;
   private CreateMessageStatisticsEvent createMessageStatisticsEvent;
   private EventType eventType = EventType.ASSIGN_SESSION;
   @InjectMocks private StatisticsService statisticsService;
-  @Mock private AmqpTemplate amqpTemplate;
+  @Mock private StatisticsEventPublisher statisticsEventPublisher;
 
   @Before
   public void setup() {
     createMessageStatisticsEvent = Mockito.mock(CreateMessageStatisticsEvent.class);
     when(createMessageStatisticsEvent.getEventType()).thenReturn(eventType);
     when(createMessageStatisticsEvent.getPayload()).thenReturn(Optional.of(PAYLOAD));
-    setInternalState(LogService.class, "LOGGER", logger);
-    setField(statisticsService, FIELD_NAME_RABBIT_EXCHANGE_NAME, RABBIT_EXCHANGE_NAME);
+    setLogger(LogService.class, logger);
   }
 
   @Test
@@ -54,8 +50,8 @@ public class StatisticsServiceTest {
 
     setField(statisticsService, FIELD_NAME_STATISTICS_ENABLED, false);
     statisticsService.fireEvent(createMessageStatisticsEvent);
-    verify(amqpTemplate, times(0))
-        .convertAndSend(eq(RABBIT_EXCHANGE_NAME), anyString(), any(Message.class));
+    verify(statisticsEventPublisher, times(0))
+        .publish(anyString(), any(Message.class));
   }
 
   @Test
@@ -66,12 +62,8 @@ public class StatisticsServiceTest {
     when(createMessageStatisticsEvent.getPayload()).thenReturn(Optional.of(PAYLOAD));
 
     statisticsService.fireEvent(createMessageStatisticsEvent);
-    verify(amqpTemplate, times(1))
-        .convertAndSend(
-            eq(RABBIT_EXCHANGE_NAME),
-            anyString(),
-            eq(
-                buildPayloadMessage()));
+    verify(statisticsEventPublisher, times(1))
+        .publish(anyString(), eq(buildPayloadMessage()));
   }
 
   @Test
@@ -88,14 +80,11 @@ public class StatisticsServiceTest {
 
     setField(statisticsService, FIELD_NAME_STATISTICS_ENABLED, true);
     statisticsService.fireEvent(createMessageStatisticsEvent);
-    verify(amqpTemplate, times(1))
-        .convertAndSend(
-            RABBIT_EXCHANGE_NAME,
-            eventType.toString(),
-            buildPayloadMessage());
+    verify(statisticsEventPublisher, times(1))
+        .publish(eventType.toString(), buildPayloadMessage());
   }
 
-  private org.springframework.amqp.core.Message buildPayloadMessage() {
+  private Message buildPayloadMessage() {
     return MessageBuilder.withBody(PAYLOAD.getBytes(StandardCharsets.UTF_8))
         .setContentType(MessageProperties.CONTENT_TYPE_JSON)
         .build();
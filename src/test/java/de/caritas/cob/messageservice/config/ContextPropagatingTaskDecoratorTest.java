@@ -0,0 +1,54 @@
+package de.caritas.cob.messageservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import de.caritas.cob.messageservice.api.tenant.TenantContext;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class ContextPropagatingTaskDecoratorTest {
+
+  private final ContextPropagatingTaskDecorator taskDecorator =
+      new ContextPropagatingTaskDecorator();
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+    MDC.clear();
+  }
+
+  @Test
+  void decorate_Should_PropagateTenantAndMdcToExecutingThread() {
+    var tenantId = new AtomicReference<Long>();
+    var mdcValue = new AtomicReference<String>();
+    TenantContext.setCurrentTenant(1L);
+    MDC.put("key", "value");
+
+    var task = taskDecorator.decorate(() -> {
+      tenantId.set(TenantContext.getCurrentTenant());
+      mdcValue.set(MDC.get("key"));
+    });
+    CompletableFuture.runAsync(task).join();
+
+    assertEquals(1L, tenantId.get());
+    assertEquals("value", mdcValue.get());
+  }
+
+  @Test
+  void decorate_Should_RestoreContextOfExecutingThread() {
+    TenantContext.setCurrentTenant(1L);
+    MDC.put("key", "value");
+    var task = taskDecorator.decorate(() -> TenantContext.setCurrentTenant(2L));
+
+    TenantContext.clear();
+    MDC.clear();
+    task.run();
+
+    assertNull(TenantContext.getCurrentTenant());
+    assertNull(MDC.get("key"));
+  }
+}
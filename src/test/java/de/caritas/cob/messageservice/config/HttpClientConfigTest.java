@@ -0,0 +1,63 @@
+package de.caritas.cob.messageservice.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import org.apache.http.HttpVersion;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpClientConfigTest {
+
+  private final HttpClientConfig httpClientConfig = new HttpClientConfig();
+
+  @BeforeEach
+  void setup() {
+    setField(httpClientConfig, "keepAliveMillis", 30000L);
+    setField(httpClientConfig, "validateAfterInactivityMillis", 2000);
+  }
+
+  @Test
+  void keepAliveStrategy_Should_UseConfiguredKeepAlive_When_ServerSendsNoKeepAlive() {
+    var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+
+    var keepAlive = httpClientConfig.keepAliveStrategy()
+        .getKeepAliveDuration(response, new BasicHttpContext());
+
+    assertEquals(30000L, keepAlive);
+  }
+
+  @Test
+  void keepAliveStrategy_Should_UseServerKeepAlive_When_ShorterThanConfigured() {
+    var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+    response.addHeader("Keep-Alive", "timeout=5");
+
+    var keepAlive = httpClientConfig.keepAliveStrategy()
+        .getKeepAliveDuration(response, new BasicHttpContext());
+
+    assertEquals(5000L, keepAlive);
+  }
+
+  @Test
+  void keepAliveStrategy_Should_CapServerKeepAlive_When_LongerThanConfigured() {
+    var response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+    response.addHeader("Keep-Alive", "timeout=300");
+
+    var keepAlive = httpClientConfig.keepAliveStrategy()
+        .getKeepAliveDuration(response, new BasicHttpContext());
+
+    assertEquals(30000L, keepAlive);
+  }
+
+  @Test
+  void rocketChatConnectionManager_Should_ApplyPoolLimits() {
+    var connectionManager = httpClientConfig.rocketChatConnectionManager(100, 20);
+
+    assertEquals(100, connectionManager.getMaxTotal());
+    assertEquals(20, connectionManager.getDefaultMaxPerRoute());
+    assertEquals(2000, connectionManager.getValidateAfterInactivity());
+    connectionManager.shutdown();
+  }
+}
@@ -0,0 +1,69 @@
+package de.caritas.cob.messageservice.config.apiclient;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import de.caritas.cob.messageservice.userservice.generated.web.LiveproxyControllerApi;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+class ApiRequestHeadersTest {
+
+  private static final String BASE_PATH = "http://userservice";
+  private static final String LIVE_EVENT_URL = BASE_PATH + "/liveproxy/send?rcGroupId=rcGroupId";
+
+  private MockRestServiceServer server;
+  private LiveproxyControllerApi liveproxyControllerApi;
+
+  @BeforeEach
+  void setup() {
+    var restTemplate = new RestTemplate();
+    server = MockRestServiceServer.bindTo(restTemplate).build();
+    liveproxyControllerApi = new LiveproxyControllerApi(
+        new UserApiClient(restTemplate).setBasePath(BASE_PATH));
+  }
+
+  @Test
+  void runWith_Should_AddHeadersOnlyToRequestsOfTheCall() {
+    server.expect(requestTo(LIVE_EVENT_URL))
+        .andExpect(header("Authorization", "Bearer token"))
+        .andRespond(withSuccess());
+    server.expect(requestTo(LIVE_EVENT_URL))
+        .andExpect(headerDoesNotExist("Authorization"))
+        .andRespond(withSuccess());
+    var headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer token");
+
+    ApiRequestHeaders.runWith(headers, () -> liveproxyControllerApi.sendLiveEvent("rcGroupId"));
+    liveproxyControllerApi.sendLiveEvent("rcGroupId");
+
+    server.verify();
+  }
+
+  @Test
+  void runWith_Should_RestoreOuterHeaders_When_Nested() {
+    server.expect(requestTo(LIVE_EVENT_URL))
+        .andExpect(header("Authorization", "Bearer inner"))
+        .andRespond(withSuccess());
+    server.expect(requestTo(LIVE_EVENT_URL))
+        .andExpect(header("Authorization", "Bearer outer"))
+        .andRespond(withSuccess());
+    var outerHeaders = new HttpHeaders();
+    outerHeaders.add("Authorization", "Bearer outer");
+    var innerHeaders = new HttpHeaders();
+    innerHeaders.add("Authorization", "Bearer inner");
+
+    ApiRequestHeaders.runWith(outerHeaders, () -> {
+      ApiRequestHeaders.runWith(innerHeaders,
+          () -> liveproxyControllerApi.sendLiveEvent("rcGroupId"));
+      liveproxyControllerApi.sendLiveEvent("rcGroupId");
+    });
+
+    server.verify();
+  }
+}
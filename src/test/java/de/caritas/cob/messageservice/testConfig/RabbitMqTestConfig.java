@@ -7,7 +7,6 @@ import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
-import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 
@@ -18,7 +17,7 @@ public class RabbitMqTestConfig {
   private static final String QUEUE_PREFIX = "statistics.";
   public static final String QUEUE_NAME_ASSIGN_SESSION = QUEUE_PREFIX + EventType.CREATE_MESSAGE;
 
-  @Bean ConnectionFactory connectionFactory() {
+  @Bean CachingConnectionFactory connectionFactory() {
     return new CachingConnectionFactory(new MockConnectionFactory());
   }
 
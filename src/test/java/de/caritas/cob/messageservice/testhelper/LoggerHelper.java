@@ -0,0 +1,28 @@
+package de.caritas.cob.messageservice.testhelper;
+
+import org.slf4j.Logger;
+import sun.misc.Unsafe;
+
+/**
+ * Replaces the static final {@code LOGGER} of a class by a mock. Since Java 12 final fields can no
+ * longer be made writable by reflection, so the field is written with {@link Unsafe}.
+ */
+public class LoggerHelper {
+
+  private LoggerHelper() {
+  }
+
+  public static void setLogger(Class<?> type, Logger logger) {
+    try {
+      Class.forName(type.getName(), true, type.getClassLoader());
+      var unsafeField = Unsafe.class.getDeclaredField("theUnsafe");
+      unsafeField.setAccessible(true);
+      var unsafe = (Unsafe) unsafeField.get(null);
+      var loggerField = type.getDeclaredField("LOGGER");
+      unsafe.putObjectVolatile(unsafe.staticFieldBase(loggerField),
+          unsafe.staticFieldOffset(loggerField), logger);
+    } catch (ReflectiveOperationException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
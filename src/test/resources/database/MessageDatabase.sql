@@ -1,3 +1,4 @@
+SET MODE MySQL;
 CREATE TABLE IF NOT EXISTS DRAFTMESSAGE
 (
     ID            bigint NOT NULL,
@@ -11,3 +12,5 @@ CREATE TABLE IF NOT EXISTS DRAFTMESSAGE
 CREATE SEQUENCE IF NOT EXISTS SEQUENCE_DRAFTMESSAGE
     START WITH 100000
     INCREMENT BY 1;
+CREATE UNIQUE INDEX IF NOT EXISTS DRAFTMESSAGE_USER_ID_RC_GROUP_ID
+    ON DRAFTMESSAGE (USER_ID, RC_GROUP_ID);